@@ -0,0 +1,17 @@
+#!/bin/sh
+# Clones the primary with pg_basebackup on first start, then runs as a hot standby.
+set -e
+
+mkdir -p "$PGDATA"
+chown postgres:postgres "$PGDATA"
+chmod 0700 "$PGDATA"
+
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+    export PGPASSWORD="$REPLICATION_PASSWORD"
+    until su-exec postgres pg_basebackup -h "$PRIMARY_HOST" -U "$REPLICATION_USER" -D "$PGDATA" -R -X stream; do
+        echo "Waiting for primary at $PRIMARY_HOST..."
+        sleep 2
+    done
+fi
+
+exec su-exec postgres postgres -c hot_standby=on
@@ -0,0 +1,55 @@
+package com.elzozcode.job_tracker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the application's services and JDBC repositories as
+ * {@code app.invocations}, tagged by layer, class, method and exception. Controllers are covered by
+ * {@code http.server.requests} and Spring Data repositories by {@code spring.data.repository.invocations}.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class InvocationMetricsAspect {
+
+    static final String METRIC = "app.invocations";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * *(..)) && within(com.elzozcode.job_tracker.services..*) && @within(org.springframework.stereotype.Service)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service");
+    }
+
+    @Around("execution(public * *(..)) && within(com.elzozcode.job_tracker.repositories..*) && @within(org.springframework.stereotype.Repository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "repository");
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+            sample.stop(Timer.builder(METRIC)
+                    .description("Service and repository method execution time")
+                    .tag("layer", layer)
+                    .tag("class", signature.getDeclaringType().getSimpleName())
+                    .tag("method", signature.getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
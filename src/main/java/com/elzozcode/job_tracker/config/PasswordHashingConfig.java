@@ -0,0 +1,60 @@
+package com.elzozcode.job_tracker.config;
+
+import com.elzozcode.job_tracker.security.BCryptStrengthCalibrator;
+import com.elzozcode.job_tracker.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Slf4j
+@Configuration
+public class PasswordHashingConfig {
+
+    private static final String BCRYPT_ID = "bcrypt";
+
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${auth.password-hashing.threads:0}") int threads,
+            @Value("${auth.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password-hashing.retry-after-seconds:1}") long retryAfterSeconds,
+            @Value("${auth.password-hashing.strength:0}") int strength,
+            @Value("${auth.password-hashing.target-latency-ms:50}") long targetLatencyMs,
+            @Value("${auth.password-hashing.min-strength:10}") int minStrength,
+            @Value("${auth.password-hashing.max-strength:16}") int maxStrength
+    ) {
+        int bcryptStrength = strength > 0
+                ? strength
+                : BCryptStrengthCalibrator.calibrate(Duration.ofMillis(targetLatencyMs), minStrength, maxStrength);
+        log.info("Using BCrypt strength {} for new password hashes", bcryptStrength);
+
+        Gauge.builder("auth.password_hash.strength", () -> bcryptStrength)
+                .description("BCrypt strength used for new password hashes")
+                .register(meterRegistry);
+
+        DelegatingPasswordEncoder versionedEncoder = new DelegatingPasswordEncoder(
+                BCRYPT_ID,
+                Map.of(BCRYPT_ID, new BCryptPasswordEncoder(bcryptStrength))
+        );
+        // Hashes stored before the {id} prefix was introduced are plain BCrypt.
+        versionedEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(
+                versionedEncoder,
+                poolSize,
+                queueCapacity,
+                retryAfterSeconds,
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.elzozcode.job_tracker.config;
+
+import com.elzozcode.job_tracker.config.VirtualThreadPinningMonitor.PinnedSite;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/pinnedthreads}: where virtual threads pinned their carrier since startup or the last reset.
+ */
+@Endpoint(id = "pinnedthreads")
+@RequiredArgsConstructor
+public class PinnedThreadsEndpoint {
+
+    private final VirtualThreadPinningMonitor monitor;
+
+    @ReadOperation
+    public List<PinnedSite> pinnedSites() {
+        return monitor.report();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        monitor.reset();
+    }
+}
@@ -0,0 +1,115 @@
+package com.elzozcode.job_tracker.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured data source with a primary/replica router when
+ * {@code app.datasource.routing.enabled=true}. Every service read marked
+ * {@code @Transactional(readOnly = true)} then runs on a replica. With virtual threads on, each
+ * pool gets its own {@link ConcurrencyLimitingDataSource} sized to that pool, so read capacity
+ * grows with the replicas and permits are only taken for connections that reach a pool.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class ReadReplicaRoutingConfig {
+
+    @Bean
+    public ReplicaStickiness replicaStickiness(
+            @Value("${app.datasource.routing.sticky-window:5s}") Duration stickyWindow,
+            @Value("${app.datasource.routing.max-tracked-principals:100000}") long maxTrackedPrincipals
+    ) {
+        return new ReplicaStickiness(stickyWindow, maxTrackedPrincipals);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+            ReplicaStickiness replicaStickiness,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.url}") String primaryUrl,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${app.datasource.replica.urls}") List<String> replicaUrls,
+            @Value("${app.datasource.replica.username:${spring.datasource.username}}") String replicaUsername,
+            @Value("${app.datasource.replica.password:${spring.datasource.password}}") String replicaPassword,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${app.datasource.concurrency-limit.permits:0}") int permits,
+            @Value("${app.datasource.concurrency-limit.acquire-timeout:30s}") Duration acquireTimeout
+    ) {
+        // The pools are not beans, so they are bound to the registry here to get hikaricp_* gauges
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+        List<HikariDataSource> pools = new ArrayList<>();
+        pools.add(pool("primary", primaryUrl, username, password, maximumPoolSize, false, metrics));
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            pools.add(pool("replica-" + i, replicaUrls.get(i).trim(), replicaUsername, replicaPassword,
+                    maximumPoolSize, true, metrics));
+        }
+
+        List<DataSource> targets = new ArrayList<>();
+        for (HikariDataSource hikari : pools) {
+            if (!virtualThreads) {
+                targets.add(hikari);
+                continue;
+            }
+            // permits=0 follows this pool's size
+            ConcurrencyLimitingDataSource limited = new ConcurrencyLimitingDataSource(
+                    hikari, permits > 0 ? permits : hikari.getMaximumPoolSize(), acquireTimeout);
+            limited.bindTo(meterRegistry, Tags.of("pool", hikari.getPoolName()));
+            targets.add(limited);
+        }
+
+        DataSource primary = targets.get(0);
+        List<DataSource> replicas = targets.subList(1, targets.size());
+        log.info("Routing read-only transactions to {} replica(s)", replicas.size());
+
+        return new ReadReplicaRoutingDataSource(primary, replicas, replicaStickiness);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+        // Known defaults let the proxy hand out connections without touching a pool first
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+
+    private static HikariDataSource pool(
+            String name,
+            String url,
+            String username,
+            String password,
+            int maximumPoolSize,
+            boolean readOnly,
+            MicrometerMetricsTrackerFactory metrics
+    ) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("job-tracker-" + name);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setReadOnly(readOnly);
+        config.setMetricsTrackerFactory(metrics);
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,50 @@
+package com.elzozcode.job_tracker.config;
+
+import com.elzozcode.job_tracker.security.UserPrincipal;
+import com.elzozcode.job_tracker.utils.SecurityUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+
+/**
+ * Remembers principals that committed a read-write transaction within the last window so
+ * their following reads go to the primary and see their own writes despite replica lag.
+ */
+public class ReplicaStickiness implements TransactionExecutionListener {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReplicaStickiness(Duration window, long maxTrackedPrincipals) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxTrackedPrincipals)
+                .build();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly()) {
+            return;
+        }
+        String key = currentPrincipalKey();
+        if (key != null) {
+            recentWriters.put(key, Boolean.TRUE);
+        }
+    }
+
+    public boolean isSticky() {
+        String key = currentPrincipalKey();
+        return key != null && recentWriters.getIfPresent(key) != null;
+    }
+
+    private static String currentPrincipalKey() {
+        if (!SecurityUtils.isAuthenticated()) {
+            return null;
+        }
+        UserPrincipal principal = SecurityUtils.getCurrentUser();
+        return principal.isCompany() ? "c" + principal.getCompanyId() : "u" + principal.getUserId();
+    }
+}
@@ -0,0 +1,49 @@
+package com.elzozcode.job_tracker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.List;
+
+/**
+ * Publishes hit, miss, put, removal and eviction counts of the Hibernate second-level cache
+ * regions as {@code cache.*} meters tagged {@code layer=hibernate}.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    static final List<String> REGIONS = List.of("jobs", "companies");
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // Hibernate resolves its own cache manager (provider, URI and class loader), so it is taken from
+        // the region factory rather than from Caching, which could hand back a different, empty one
+        RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache()
+                .getRegionFactory();
+        if (!(regionFactory instanceof JCacheRegionFactory jcache)) {
+            return;
+        }
+        CacheManager cacheManager = jcache.getCacheManager();
+
+        for (String region : REGIONS) {
+            Cache<Object, Object> cache = cacheManager.getCache(region);
+            if (cache != null) {
+                JCacheMetrics.monitor(registry, cache, Tags.of("layer", "hibernate"));
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.elzozcode.job_tracker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Support for running requests, {@code @Async} work and scheduled tasks on virtual threads, which
+ * Spring Boot switches on with {@code spring.threads.virtual.enabled=true}. Connection checkout is
+ * then bounded by a semaphore sized to the pool, and carrier pinning is reported through JFR.
+ * With replica routing on, {@link ReadReplicaRoutingConfig} limits each pool separately instead.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor dataSourceConcurrencyLimiter(
+            @Value("${app.datasource.concurrency-limit.permits:0}") int permits,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${app.datasource.concurrency-limit.acquire-timeout:30s}") Duration acquireTimeout,
+            @Value("${app.datasource.routing.enabled:false}") boolean routingEnabled
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // A routed dataSource is a lazy proxy over several pools; each pool gets its own limit there
+                if (routingEnabled || !DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+
+                // permits=0 follows the pool size, so waiting happens here rather than inside the pool
+                int limit = permits > 0 ? permits
+                        : bean instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize()
+                        : maximumPoolSize;
+                log.info("Limiting concurrent database connections to {}", limit);
+
+                return new ConcurrencyLimitingDataSource(dataSource, limit, acquireTimeout);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder dataSourcePermitMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConcurrencyLimitingDataSource limited) {
+                limited.bindTo(registry, Tags.empty());
+            }
+        };
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "diagnostics.pinning.enabled", havingValue = "true")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${diagnostics.pinning.threshold:20ms}") Duration threshold
+    ) {
+        return new VirtualThreadPinningMonitor(threshold);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "diagnostics.pinning.enabled", havingValue = "true")
+    public PinnedThreadsEndpoint pinnedThreadsEndpoint(VirtualThreadPinningMonitor monitor) {
+        return new PinnedThreadsEndpoint(monitor);
+    }
+}
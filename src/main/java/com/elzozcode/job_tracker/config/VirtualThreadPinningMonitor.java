@@ -0,0 +1,136 @@
+package com.elzozcode.job_tracker.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Listens to JFR {@code jdk.VirtualThreadPinned} events in-process and groups them by the frame
+ * that pinned the carrier. The Hibernate, pgjdbc and Hikari frames are preferred as the grouping
+ * site, since a virtual thread parked on JDBC I/O under a monitor held there blocks a carrier for
+ * the whole round trip.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final List<String> PERSISTENCE_PACKAGES = List.of("org.hibernate.", "org.postgresql.", "com.zaxxer.hikari.");
+    private static final String APPLICATION_PACKAGE = "com.elzozcode.";
+    private static final int SAMPLE_FRAMES = 15;
+
+    private final Map<String, Site> sites = new ConcurrentHashMap<>();
+    private final RecordingStream stream;
+
+    public record PinnedSite(String site, long count, long totalMillis, long maxMillis, List<String> sampleStack) {
+    }
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onEvent);
+        stream.startAsync();
+        log.info("Reporting virtual thread pinning longer than {}", threshold);
+    }
+
+    VirtualThreadPinningMonitor() {
+        this.stream = null;
+    }
+
+    /**
+     * @return pinning sites, longest total pinned time first
+     */
+    public List<PinnedSite> report() {
+        return sites.entrySet().stream()
+                .map(entry -> entry.getValue().toReport(entry.getKey()))
+                .sorted(Comparator.comparingLong(PinnedSite::totalMillis).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        sites.clear();
+    }
+
+    void record(List<String> frames, Duration duration) {
+        String site = siteOf(frames);
+        Site stats = sites.computeIfAbsent(site, key -> {
+            log.warn("Virtual thread pinned its carrier for {}ms at {}\n\t{}",
+                    duration.toMillis(), key, String.join("\n\t", sample(frames)));
+            return new Site(sample(frames));
+        });
+        stats.add(duration);
+    }
+
+    static String siteOf(List<String> frames) {
+        for (String frame : frames) {
+            if (PERSISTENCE_PACKAGES.stream().anyMatch(frame::startsWith)) {
+                return frame;
+            }
+        }
+        for (String frame : frames) {
+            if (frame.startsWith(APPLICATION_PACKAGE)) {
+                return frame;
+            }
+        }
+        return frames.isEmpty() ? "<unknown>" : frames.get(0);
+    }
+
+    @Override
+    public void close() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onEvent(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<String> frames = new ArrayList<>();
+        if (stackTrace != null) {
+            for (RecordedFrame frame : stackTrace.getFrames()) {
+                if (frame.isJavaFrame()) {
+                    frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                            + ":" + frame.getLineNumber());
+                }
+            }
+        }
+        record(frames, event.getDuration());
+    }
+
+    private static List<String> sample(List<String> frames) {
+        return List.copyOf(frames.subList(0, Math.min(frames.size(), SAMPLE_FRAMES)));
+    }
+
+    private static final class Site {
+
+        private final List<String> sampleStack;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+        Site(List<String> sampleStack) {
+            this.sampleStack = sampleStack;
+        }
+
+        void add(Duration duration) {
+            long nanos = duration.toNanos();
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        PinnedSite toReport(String site) {
+            return new PinnedSite(site, count.sum(), totalNanos.sum() / 1_000_000, maxNanos.get() / 1_000_000, sampleStack);
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package com.elzozcode.job_tracker.controller;
 
 import com.elzozcode.job_tracker.dtos.LoginDto;
+import com.elzozcode.job_tracker.dtos.RefreshTokenDto;
 import com.elzozcode.job_tracker.dtos.RegisterDto;
 import com.elzozcode.job_tracker.dtos.response.AuthResponse;
+import com.elzozcode.job_tracker.security.LoginThrottle;
 import com.elzozcode.job_tracker.services.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginThrottle loginThrottle;
 
     @Operation(summary = "Register new user", description = "Create a new user account")
     @ApiResponses(value = {
@@ -39,12 +44,44 @@ public class AuthController {
     @Operation(summary = "Login", description = "Authenticate user and receive JWT token")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Login successful"),
-            @ApiResponse(responseCode = "401", description = "Invalid credentials")
+            @ApiResponse(responseCode = "401", description = "Invalid credentials"),
+            @ApiResponse(responseCode = "429", description = "Too many login attempts")
     })
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(
-            @Valid @RequestBody LoginDto request
+            @Valid @RequestBody LoginDto request,
+            HttpServletRequest httpRequest
     ) {
+        loginThrottle.acquire(request.getEmail(), httpRequest.getRemoteAddr());
         return ResponseEntity.ok(authService.login(request));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Refresh tokens", description = "Exchange a refresh token for a new access and refresh token pair")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tokens refreshed"),
+            @ApiResponse(responseCode = "401", description = "Invalid, expired or already used refresh token")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(
+            @Valid @RequestBody RefreshTokenDto request
+    ) {
+        return ResponseEntity.ok(authService.refresh(request));
+    }
+
+    @Operation(summary = "Logout", description = "Revoke the refresh token and the current access token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Tokens revoked")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @Valid @RequestBody RefreshTokenDto request,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authHeader
+    ) {
+        String accessToken = authHeader != null && authHeader.startsWith("Bearer ")
+                ? authHeader.substring(7)
+                : null;
+
+        authService.logout(request, accessToken);
+        return ResponseEntity.noContent().build();
+    }
+}
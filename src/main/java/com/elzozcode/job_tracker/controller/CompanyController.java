@@ -1,6 +1,7 @@
 package com.elzozcode.job_tracker.controller;
 
 import com.elzozcode.job_tracker.dtos.CompanyDto;
+import com.elzozcode.job_tracker.dtos.response.CompanySuggestion;
 import com.elzozcode.job_tracker.services.CompanyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -9,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -36,16 +38,31 @@ public class CompanyController {
         return ResponseEntity.ok(updatedCompany);
     }
 
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest companies", description = "Typeahead suggestions for company names and industries starting with the given prefix")
+    public ResponseEntity<List<CompanySuggestion>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(companyService.suggest(prefix, limit));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get company by ID", description = "Retrieve company details by ID")
-    public ResponseEntity<CompanyDto> getCompanyById(@PathVariable Long id) {
+    public ResponseEntity<CompanyDto> getCompanyById(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(companyService.getCompanyETag(id))) {
+            return null;
+        }
         CompanyDto company = companyService.getCompanyById(id);
         return ResponseEntity.ok(company);
     }
 
     @GetMapping
     @Operation(summary = "Get all companies", description = "Retrieve all companies in the system")
-    public ResponseEntity<List<CompanyDto>> getAllCompanies() {
+    public ResponseEntity<List<CompanyDto>> getAllCompanies(WebRequest request) {
+        if (request.checkNotModified(companyService.getAllCompaniesETag())) {
+            return null;
+        }
         List<CompanyDto> companies = companyService.getAllCompanies();
         return ResponseEntity.ok(companies);
     }
@@ -2,6 +2,7 @@ package com.elzozcode.job_tracker.controller;
 
 import com.elzozcode.job_tracker.dtos.InterviewDto;
 import com.elzozcode.job_tracker.dtos.ScheduleInterviewDto;
+import com.elzozcode.job_tracker.dtos.response.CursorPage;
 import com.elzozcode.job_tracker.dtos.response.InterviewResponse;
 import com.elzozcode.job_tracker.services.InterviewServices;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,11 +10,13 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -61,20 +64,28 @@ public class InterviewController {
         return ResponseEntity.ok(responses);
     }
 
-    @Operation(summary = "Get upcoming interviews", description = "Get all upcoming interviews for current user")
+    @Operation(summary = "Get upcoming interviews", description = "Get upcoming interviews for current user, soonest first, within an optional from/to window")
     @GetMapping("/upcoming")
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<List<InterviewResponse>> getUpcomingInterviews() {
-        List<InterviewResponse> responses = interviewServices.getUpcomingInterviews();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<CursorPage<InterviewResponse>> getUpcomingInterviews(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(interviewServices.getUpcomingInterviews(from, to, cursor, limit));
     }
 
-    @Operation(summary = "Get completed interviews", description = "Get all completed interviews for current user")
+    @Operation(summary = "Get completed interviews", description = "Get past interviews for current user, most recent first, within an optional from/to window")
     @GetMapping("/completed")
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<List<InterviewResponse>> getCompletedInterviews() {
-        List<InterviewResponse> responses = interviewServices.getCompletedInterviews();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<CursorPage<InterviewResponse>> getCompletedInterviews(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(interviewServices.getCompletedInterviews(from, to, cursor, limit));
     }
 
     @Operation(summary = "Get interviews by application ID")
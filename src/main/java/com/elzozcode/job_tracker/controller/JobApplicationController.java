@@ -2,8 +2,12 @@ package com.elzozcode.job_tracker.controller;
 
 import com.elzozcode.job_tracker.dtos.CreateJobApplicationDto;
 import com.elzozcode.job_tracker.dtos.JobApplicationDto;
+import com.elzozcode.job_tracker.dtos.response.ApplicationStatsResponse;
+import com.elzozcode.job_tracker.dtos.response.HiringFunnelResponse;
 import com.elzozcode.job_tracker.dtos.response.JobApplicationResponse;
+import com.elzozcode.job_tracker.services.JobApplicationExportService;
 import com.elzozcode.job_tracker.services.JobApplicationService;
+import com.elzozcode.job_tracker.services.HiringFunnelService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -11,10 +15,14 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -26,6 +34,8 @@ import java.util.List;
 public class JobApplicationController {
 
     private final JobApplicationService service;
+    private final JobApplicationExportService exportService;
+    private final HiringFunnelService funnelService;
 
     @Operation(summary = "Apply for a job", description = "Create a job application from a posted job listing")
     @ApiResponses(value = {
@@ -45,11 +55,46 @@ public class JobApplicationController {
     @Operation(summary = "Get all job applications", description = "Get all job applications for current user")
     @GetMapping
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<List<JobApplicationResponse>> getAllJobApplicationByUserId() {
+    public ResponseEntity<List<JobApplicationResponse>> getAllJobApplicationByUserId(WebRequest request) {
+        if (request.checkNotModified(service.getAllByUserIdETag())) {
+            return null;
+        }
         List<JobApplicationResponse> responses = service.getAllByUserId();
         return ResponseEntity.ok(responses);
     }
 
+    @Operation(
+            summary = "Export my job applications",
+            description = "Stream all job applications of the current user as CSV or NDJSON"
+    )
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<StreamingResponseBody> exportMyApplications(
+            @RequestParam(defaultValue = "CSV") JobApplicationExportService.Format format
+    ) {
+        return export(exportService.exportForCurrentUser(format), format, "applications");
+    }
+
+    @Operation(
+            summary = "Get application statistics",
+            description = "Number of the current user's applications in each status"
+    )
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<ApplicationStatsResponse> getStats() {
+        return ResponseEntity.ok(service.getStats());
+    }
+
+    @Operation(
+            summary = "Get the company's hiring funnel",
+            description = "Applications per status, stage conversion rates and median days to first interview across all of the company's jobs"
+    )
+    @GetMapping("/funnel")
+    @PreAuthorize("hasRole('COMPANY')")
+    public ResponseEntity<HiringFunnelResponse> getCompanyFunnel() {
+        return ResponseEntity.ok(funnelService.getCompanyFunnel());
+    }
+
     @Operation(summary = "Get job application by ID for the current user")
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('USER')")
@@ -68,6 +113,39 @@ public class JobApplicationController {
         return ResponseEntity.ok(responses);
     }
 
+    @Operation(
+            summary = "Export job applications for a job",
+            description = "Stream all applications to one of the company's jobs as CSV or NDJSON"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "403", description = "Job belongs to another company"),
+            @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    @GetMapping("/job/{jobId}/export")
+    @PreAuthorize("hasRole('COMPANY')")
+    public ResponseEntity<StreamingResponseBody> exportJobApplications(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "CSV") JobApplicationExportService.Format format
+    ) {
+        return export(exportService.exportForJob(jobId, format), format, "job-" + jobId + "-applications");
+    }
+
+    @Operation(
+            summary = "Get the hiring funnel of a job",
+            description = "Applications per status, stage conversion rates and median days to first interview for one of the company's jobs"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Funnel returned"),
+            @ApiResponse(responseCode = "403", description = "Job belongs to another company"),
+            @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    @GetMapping("/job/{jobId}/funnel")
+    @PreAuthorize("hasRole('COMPANY')")
+    public ResponseEntity<HiringFunnelResponse> getJobFunnel(@PathVariable Long jobId) {
+        return ResponseEntity.ok(funnelService.getJobFunnel(jobId));
+    }
+
     @Operation(summary = "Update job application")
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('USER')")
@@ -88,6 +166,19 @@ public class JobApplicationController {
         service.delete(id);
         return ResponseEntity.noContent().build();
     }
-}
 
+    private ResponseEntity<StreamingResponseBody> export(
+            StreamingResponseBody body,
+            JobApplicationExportService.Format format,
+            String fileName
+    ) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(fileName + "." + format.getExtension())
+                .build();
 
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+}
@@ -1,6 +1,11 @@
 package com.elzozcode.job_tracker.controller;
 
 import com.elzozcode.job_tracker.dtos.JobDto;
+import com.elzozcode.job_tracker.dtos.response.CursorPage;
+import com.elzozcode.job_tracker.dtos.response.JobFeedSyncResponse;
+import com.elzozcode.job_tracker.entity.enums.JobType;
+import com.elzozcode.job_tracker.entity.enums.WorkMode;
+import com.elzozcode.job_tracker.services.JobFeedService;
 import com.elzozcode.job_tracker.services.JobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,13 +14,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -25,23 +34,62 @@ import java.util.List;
 public class JobController {
 
     private final JobService jobService;
+    private final JobFeedService jobFeedService;
 
-    @Operation(summary = "Get all active jobs", description = "Retrieve all active job listings")
+    @Operation(
+            summary = "Get active jobs",
+            description = "Retrieve active job listings, newest first, one page at a time. " +
+                    "Pass the returned nextCursor to fetch the following page."
+    )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Jobs retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Jobs retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Listing unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
     })
     @GetMapping
-    public ResponseEntity<List<JobDto>> getAllActiveJobs() {
-        return ResponseEntity.ok(jobService.getAllActiveJobs());
+    public ResponseEntity<CursorPage<JobDto>> getActiveJobs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) JobType jobType,
+            @RequestParam(required = false) WorkMode workMode,
+            @RequestParam(required = false) String location,
+            WebRequest request
+    ) {
+        if (request.checkNotModified(jobService.getActiveJobsETag())) {
+            return null;
+        }
+        return ResponseEntity.ok(jobService.getActiveJobsPage(cursor, limit, jobType, workMode, location));
+    }
+
+    @Operation(
+            summary = "Search jobs",
+            description = "Full-text search over active jobs, best matches first. " +
+                    "Use quotes for phrases and a trailing * for prefix matches, e.g. \"spring boot\" kotl*"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search results with rank and highlighted snippet"),
+            @ApiResponse(responseCode = "400", description = "Empty search query")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<JobDto>> searchJobs(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Integer offset
+    ) {
+        return ResponseEntity.ok(jobService.searchJobs(query, limit, offset));
     }
 
     @Operation(summary = "Get job by ID", description = "Retrieve a specific job by its ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Job found"),
+            @ApiResponse(responseCode = "304", description = "Job unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Job not found")
     })
     @GetMapping("/{jobId}")
-    public ResponseEntity<JobDto> getJobById(@PathVariable Long jobId) {
+    public ResponseEntity<JobDto> getJobById(@PathVariable Long jobId, WebRequest request) {
+        if (request.checkNotModified(jobService.getJobETag(jobId))) {
+            return null;
+        }
         return ResponseEntity.ok(jobService.getJobById(jobId));
     }
 
@@ -89,6 +137,28 @@ public class JobController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdJob);
     }
 
+    @Operation(
+            summary = "Sync job feed",
+            description = "Replace the authenticated company's postings with a full feed, sent as a JSON array, " +
+                    "newline-delimited JSON or CSV with a header row. Postings are matched by jobUrl, only new or " +
+                    "changed postings are written and active postings missing from the feed are deactivated.",
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Feed applied; invalid records are reported and skipped"),
+            @ApiResponse(responseCode = "400", description = "Malformed or oversized feed"),
+            @ApiResponse(responseCode = "403", description = "Only companies can sync a job feed")
+    })
+    @PostMapping(
+            value = "/feed",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, "text/csv"}
+    )
+    @PreAuthorize("hasRole('COMPANY')")
+    public ResponseEntity<JobFeedSyncResponse> syncFeed(HttpServletRequest request) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        return ResponseEntity.ok(jobFeedService.sync(request.getInputStream(), contentType));
+    }
+
     @Operation(
             summary = "Get my company jobs",
             description = "Get all jobs posted by the authenticated company",
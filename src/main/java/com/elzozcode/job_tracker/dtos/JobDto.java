@@ -48,4 +48,6 @@ public class JobDto {
     private String jobUrl;
     private LocalDate deadlineDate;
     private Boolean isActive;
+    private Double searchRank;
+    private String snippet;
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.elzozcode.job_tracker.dtos;
+
+import com.elzozcode.job_tracker.entity.enums.JobType;
+import com.elzozcode.job_tracker.entity.enums.WorkMode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobFeedItem {
+
+    private String jobUrl;
+    private String jobTitle;
+    private String description;
+    private String requirements;
+    private String location;
+    private JobType jobType;
+    private WorkMode workMode;
+    private BigDecimal salaryMin;
+    private BigDecimal salaryMax;
+    private String currency;
+    private LocalDate postedDate;
+    private LocalDate deadlineDate;
+}
@@ -0,0 +1,17 @@
+package com.elzozcode.job_tracker.dtos;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshTokenDto {
+
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+}
@@ -0,0 +1,19 @@
+package com.elzozcode.job_tracker.dtos.response;
+
+import com.elzozcode.job_tracker.entity.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationStatsResponse {
+
+    private long total;
+    private Map<ApplicationStatus, Long> byStatus;
+}
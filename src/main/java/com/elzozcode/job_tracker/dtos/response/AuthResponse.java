@@ -14,6 +14,7 @@ public class AuthResponse {
     private String name;
     private String type;
     private String token;
+    private String refreshToken;
     private String message;
 
     public static AuthResponse success(
@@ -21,7 +22,8 @@ public class AuthResponse {
             String email,
             String name,
             String type,
-            String token
+            String token,
+            String refreshToken
     ) {
         return AuthResponse.builder()
                 .id(id)
@@ -29,6 +31,7 @@ public class AuthResponse {
                 .name(name)
                 .type(type)
                 .token(token)
+                .refreshToken(refreshToken)
                 .message("Success")
                 .build();
     }
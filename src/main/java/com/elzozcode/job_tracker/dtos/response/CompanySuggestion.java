@@ -0,0 +1,18 @@
+package com.elzozcode.job_tracker.dtos.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CompanySuggestion {
+
+    public static final String COMPANY = "COMPANY";
+    public static final String INDUSTRY = "INDUSTRY";
+
+    private String text;
+    private String type;
+    private Long companyId;
+}
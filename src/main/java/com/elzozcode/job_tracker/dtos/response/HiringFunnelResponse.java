@@ -0,0 +1,34 @@
+package com.elzozcode.job_tracker.dtos.response;
+
+import com.elzozcode.job_tracker.entity.enums.ApplicationStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class HiringFunnelResponse {
+
+    private Long companyId;
+    private Long jobId;
+    private long total;
+    private Map<ApplicationStatus, Long> byStatus;
+    private List<StageConversion> conversions;
+    private long interviewed;
+    private Double medianDaysToFirstInterview;
+
+    /**
+     * Share of applications that reached {@code from} and went on to reach {@code to};
+     * {@code null} when nothing reached {@code from}.
+     */
+    public record StageConversion(ApplicationStatus from, ApplicationStatus to, long reached, Double rate) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.elzozcode.job_tracker.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobFeedSyncResponse {
+
+    private int received;
+    private int inserted;
+    private int updated;
+    private int unchanged;
+    private int deactivated;
+    private int skipped;
+    private List<String> errors;
+}
@@ -6,6 +6,8 @@ import com.elzozcode.job_tracker.entity.enums.InterviewType;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -25,6 +27,7 @@ public class Interview {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "job_application_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private JobApplication jobApplication;
 
     @Column(name = "interview_date", nullable = false)
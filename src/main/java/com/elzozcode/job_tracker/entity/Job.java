@@ -4,6 +4,8 @@ import com.elzozcode.job_tracker.entity.enums.JobType;
 import com.elzozcode.job_tracker.entity.enums.WorkMode;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,6 +16,8 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "jobs")
 @Table(name = "jobs")
 @Setter
 @Getter
@@ -63,17 +67,25 @@ public class Job {
     @Column(name = "job_url", length = 500)
     private String jobUrl;
 
-    @Column(name = "posted_date")
+    @Column(name = "posted_date", nullable = false)
     private LocalDate postedDate;
 
     @Column(name = "deadline_date")
     private LocalDate deadlineDate;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Version
+    private Long version;
+
     @Column(name = "is_active")
     @Builder.Default
     private Boolean isActive = true;
 
-    @OneToMany(mappedBy = "job", cascade = CascadeType.ALL, orphanRemoval = true)
+    // No JPA cascade: the job_id foreign key deletes a job's applications and their interviews in the
+    // database, so deleting a job does not load and delete its applications one by one
+    @OneToMany(mappedBy = "job")
     private Set<JobApplication> applications = new HashSet<>();
 
     @CreationTimestamp
@@ -0,0 +1,26 @@
+package com.elzozcode.job_tracker.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Version counter of a whole collection, bumped by database triggers on every write
+ * statement against the underlying table.
+ */
+@Entity
+@Table(name = "resource_versions")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceVersion {
+
+    public static final String JOBS = "jobs";
+    public static final String COMPANIES = "companies";
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private long version;
+}
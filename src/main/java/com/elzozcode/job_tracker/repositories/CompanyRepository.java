@@ -1,10 +1,13 @@
 package com.elzozcode.job_tracker.repositories;
 
 import com.elzozcode.job_tracker.entity.Company;
+import com.elzozcode.job_tracker.repositories.projections.CompanySuggestionSource;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +17,9 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
 
     Optional<Company> findByNameIgnoreCase(String name);
 
+    @Query("SELECT c.version FROM Company c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
     boolean existsByNameIgnoreCase(String name);
 
     boolean existsCompanyByEmail(String email);
@@ -27,5 +33,13 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
 
     @Query("SELECT DISTINCT c.industry FROM Company c ORDER BY c.industry")
     List<String> findAllIndustries();
+
+    @Query("SELECT c.id AS id, c.name AS name, c.industry AS industry FROM Company c")
+    List<CompanySuggestionSource> findAllSuggestionSources();
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Company c SET c.password = :password WHERE c.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
 }
 
@@ -0,0 +1,85 @@
+package com.elzozcode.job_tracker.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Outbox of job and company edits that have to reach the copies in {@code job_applications}.
+ * Events are claimed under a lease rather than deleted up front, so a poller that dies midway
+ * leaves them to be picked up again once the lease runs out.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DenormalizationOutboxRepository {
+
+    public static final String JOB = "JOB";
+    public static final String COMPANY = "COMPANY";
+
+    private static final String CLAIM_SQL = """
+            UPDATE denormalization_outbox
+               SET claimed_until = ?
+             WHERE id IN (SELECT id
+                            FROM denormalization_outbox
+                           WHERE claimed_until IS NULL OR claimed_until < ?
+                           ORDER BY id
+                           LIMIT ?
+                             FOR UPDATE SKIP LOCKED)
+            RETURNING id, aggregate_type, aggregate_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record OutboxEvent(Long id, String aggregateType, Long aggregateId) {
+    }
+
+    public void enqueue(String aggregateType, Long aggregateId) {
+        jdbcTemplate.update(
+                "INSERT INTO denormalization_outbox (aggregate_type, aggregate_id) VALUES (?, ?)",
+                aggregateType, aggregateId);
+    }
+
+    public void enqueueJobs(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO denormalization_outbox (aggregate_type, aggregate_id) SELECT ?, UNNEST(?)");
+            ps.setString(1, JOB);
+            ps.setArray(2, connection.createArrayOf("bigint", jobIds.toArray()));
+            return ps;
+        });
+    }
+
+    /**
+     * Claims up to {@code limit} of the oldest unclaimed events, or events whose lease expired.
+     */
+    public List<OutboxEvent> claim(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new OutboxEvent(
+                        rs.getLong("id"),
+                        rs.getString("aggregate_type"),
+                        rs.getLong("aggregate_id")),
+                Timestamp.valueOf(now.plus(lease)), Timestamp.valueOf(now), limit);
+    }
+
+    public void delete(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement("DELETE FROM denormalization_outbox WHERE id = ANY (?)");
+            ps.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+            return ps;
+        });
+    }
+}
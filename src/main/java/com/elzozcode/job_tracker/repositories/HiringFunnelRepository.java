@@ -0,0 +1,88 @@
+package com.elzozcode.job_tracker.repositories;
+
+import com.elzozcode.job_tracker.entity.enums.ApplicationStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Hiring funnel aggregates for company jobs. Status counts are grouped from the covering
+ * (job_id, status) index rather than a rollup row, so concurrent applicants to a popular job
+ * never queue on a shared counter; interview timing is aggregated in the database so only
+ * one row comes back per request.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HiringFunnelRepository {
+
+    // The first interview per application is a seek on (job_application_id, interview_date)
+    private static final String TIMING_SQL = """
+            SELECT COUNT(*) AS interviewed,
+                   percentile_cont(0.5) WITHIN GROUP (
+                       ORDER BY EXTRACT(EPOCH FROM fi.interview_date - CAST(ja.application_date AS TIMESTAMP)) / 86400
+                   ) AS median_days
+              FROM job_applications ja
+             CROSS JOIN LATERAL (
+                   SELECT MIN(i.interview_date) AS interview_date
+                     FROM interviews i
+                    WHERE i.job_application_id = ja.job_application_id
+                   ) fi
+             WHERE %s
+               AND fi.interview_date IS NOT NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record InterviewTiming(long interviewed, Double medianDays) {
+    }
+
+    public Map<ApplicationStatus, Long> findCountsByJobId(Long jobId) {
+        return counts(
+                "SELECT status, COUNT(*) AS application_count FROM job_applications WHERE job_id = ? GROUP BY status",
+                jobId);
+    }
+
+    public Map<ApplicationStatus, Long> findCountsByCompanyId(Long companyId) {
+        return counts("""
+                        SELECT ja.status, COUNT(*) AS application_count
+                          FROM job_applications ja
+                          JOIN jobs j ON j.job_id = ja.job_id
+                         WHERE j.company_id = ?
+                         GROUP BY ja.status
+                        """,
+                companyId);
+    }
+
+    public InterviewTiming findInterviewTimingByJobId(Long jobId) {
+        return timing("ja.job_id = ?", jobId);
+    }
+
+    public InterviewTiming findInterviewTimingByCompanyId(Long companyId) {
+        return timing("ja.job_id IN (SELECT job_id FROM jobs WHERE company_id = ?)", companyId);
+    }
+
+    /**
+     * @return the count of every status, zero for statuses without applications
+     */
+    private Map<ApplicationStatus, Long> counts(String sql, Long id) {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            counts.put(status, 0L);
+        }
+
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(ApplicationStatus.valueOf(rs.getString("status")), rs.getLong("application_count"));
+        }, id);
+        return counts;
+    }
+
+    private InterviewTiming timing(String condition, Long id) {
+        return jdbcTemplate.queryForObject(TIMING_SQL.formatted(condition), (rs, rowNum) -> {
+            double median = rs.getDouble("median_days");
+            return new InterviewTiming(rs.getLong("interviewed"), rs.wasNull() ? null : median);
+        }, id);
+    }
+}
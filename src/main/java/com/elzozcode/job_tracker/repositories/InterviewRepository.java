@@ -1,15 +1,71 @@
 package com.elzozcode.job_tracker.repositories;
 
 import com.elzozcode.job_tracker.entity.Interview;
+import com.elzozcode.job_tracker.repositories.projections.InterviewView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface InterviewRepository extends JpaRepository<Interview, Long> {
 
+    String VIEW_SELECT = "SELECT new com.elzozcode.job_tracker.repositories.projections.InterviewView(" +
+            "i.id, ja.id, i.interviewDate, i.interviewType, i.status, i.location, i.interviewerName, " +
+            "i.duration, i.notes, i.feedback, i.result, i.createdAt, i.updatedAt, ja.companyName, ja.jobTitle) " +
+            "FROM Interview i JOIN i.jobApplication ja ";
+
+    @Query(VIEW_SELECT + "WHERE ja.id = :jobApplicationId AND ja.user.id = :userId ORDER BY i.interviewDate, i.id")
+    List<InterviewView> findViewsByJobApplicationIdAndUserId(
+            @Param("jobApplicationId") Long jobApplicationId,
+            @Param("userId") Long userId
+    );
+
+    @Query(VIEW_SELECT + "WHERE ja.id = :jobApplicationId AND ja.job.company.id = :companyId ORDER BY i.interviewDate, i.id")
+    List<InterviewView> findViewsByJobApplicationIdAndCompanyId(
+            @Param("jobApplicationId") Long jobApplicationId,
+            @Param("companyId") Long companyId
+    );
+
+    @Query(VIEW_SELECT + "WHERE ja.user.id = :userId ORDER BY i.interviewDate, i.id")
+    List<InterviewView> findViewsByUserId(@Param("userId") Long userId);
+
+    @Query(VIEW_SELECT + "WHERE ja.job.company.id = :companyId ORDER BY i.interviewDate, i.id")
+    List<InterviewView> findViewsByCompanyId(@Param("companyId") Long companyId);
+
+    @Query(VIEW_SELECT +
+            "WHERE ja.user.id = :userId " +
+            "AND i.interviewDate >= :from AND i.interviewDate < :to " +
+            "AND (i.interviewDate > :afterDate OR (i.interviewDate = :afterDate AND i.id > :afterId)) " +
+            "ORDER BY i.interviewDate ASC, i.id ASC")
+    List<InterviewView> findViewsByUserIdInWindowAscending(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
+
+    @Query(VIEW_SELECT +
+            "WHERE ja.user.id = :userId " +
+            "AND i.interviewDate >= :from AND i.interviewDate < :to " +
+            "AND (i.interviewDate < :beforeDate OR (i.interviewDate = :beforeDate AND i.id < :beforeId)) " +
+            "ORDER BY i.interviewDate DESC, i.id DESC")
+    List<InterviewView> findViewsByUserIdInWindowDescending(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("beforeDate") LocalDateTime beforeDate,
+            @Param("beforeId") Long beforeId,
+            Limit limit
+    );
+
     List<Interview> findAllByJobApplicationId(Long jobApplicationId);
 
     Optional<Interview> findByIdAndJobApplicationId(Long id, Long jobApplicationId);
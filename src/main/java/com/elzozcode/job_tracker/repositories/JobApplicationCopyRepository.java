@@ -0,0 +1,74 @@
+package com.elzozcode.job_tracker.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Refreshes the job and company fields that applications copy from the posting they were
+ * created from. Values are truncated to the application column widths on both sides of the
+ * comparison, so a refreshed row never looks stale again.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobApplicationCopyRepository {
+
+    private static final String REFRESH_SQL = """
+            WITH source AS (
+                SELECT j.job_id,
+                       LEFT(c.name, 100)       AS company_name,
+                       LEFT(j.job_title, 100)  AS job_title,
+                       j.location,
+                       j.job_type,
+                       j.work_mode
+                  FROM jobs j
+                  JOIN companies c ON c.company_id = j.company_id
+                 WHERE j.job_id = ANY (?) OR j.company_id = ANY (?)
+            ), stale AS (
+                SELECT ja.job_application_id
+                  FROM job_applications ja
+                  JOIN source s ON s.job_id = ja.job_id
+                 WHERE ja.company_name IS DISTINCT FROM s.company_name
+                    OR ja.job_title IS DISTINCT FROM s.job_title
+                    OR ja.location IS DISTINCT FROM s.location
+                    OR ja.job_type IS DISTINCT FROM s.job_type
+                    OR ja.work_mode IS DISTINCT FROM s.work_mode
+                 LIMIT ?
+                   FOR UPDATE OF ja
+            )
+            UPDATE job_applications ja
+               SET company_name = s.company_name,
+                   job_title = s.job_title,
+                   location = s.location,
+                   job_type = s.job_type,
+                   work_mode = s.work_mode,
+                   updated_at = ?
+              FROM stale, source s
+             WHERE ja.job_application_id = stale.job_application_id
+               AND s.job_id = ja.job_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Rewrites at most {@code limit} stale applications of the given jobs and of every job of the
+     * given companies.
+     *
+     * @return the number of applications rewritten; fewer than {@code limit} means none are left
+     */
+    public int refreshChunk(Collection<Long> jobIds, Collection<Long> companyIds, int limit) {
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(REFRESH_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", jobIds.toArray()));
+            ps.setArray(2, connection.createArrayOf("bigint", companyIds.toArray()));
+            ps.setInt(3, limit);
+            ps.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+            return ps;
+        });
+    }
+}
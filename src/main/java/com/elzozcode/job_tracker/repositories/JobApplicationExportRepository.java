@@ -0,0 +1,88 @@
+package com.elzozcode.job_tracker.repositories;
+
+import com.elzozcode.job_tracker.entity.enums.ApplicationStatus;
+import com.elzozcode.job_tracker.entity.enums.JobType;
+import com.elzozcode.job_tracker.entity.enums.WorkMode;
+import com.elzozcode.job_tracker.repositories.projections.JobApplicationView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.function.Consumer;
+
+/**
+ * Forward-only reads for application exports. Rows are handed to the consumer one at a time
+ * and never collected, so memory stays flat regardless of the export size. PostgreSQL only
+ * honours the fetch size inside a transaction, so callers must run these methods in one.
+ */
+@Repository
+public class JobApplicationExportRepository {
+
+    private static final String SELECT = """
+            SELECT job_application_id, user_id, company_name, job_title, job_url, application_date, status,
+                   location, salary_range, job_type, work_mode, notes, company_website,
+                   contact_person, contact_email, created_at, updated_at
+              FROM job_applications
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobApplicationExportRepository(
+            DataSource dataSource,
+            @Value("${exports.fetch-size:500}") int fetchSize
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public void streamByUserId(Long userId, Consumer<JobApplicationView> consumer) {
+        jdbcTemplate.query(
+                SELECT + " WHERE user_id = ? ORDER BY application_date DESC, job_application_id DESC",
+                rs -> {
+                    consumer.accept(mapRow(rs));
+                },
+                userId);
+    }
+
+    public void streamByJobId(Long jobId, Consumer<JobApplicationView> consumer) {
+        jdbcTemplate.query(
+                SELECT + " WHERE job_id = ? ORDER BY application_date DESC, job_application_id DESC",
+                rs -> {
+                    consumer.accept(mapRow(rs));
+                },
+                jobId);
+    }
+
+    private static JobApplicationView mapRow(ResultSet rs) throws SQLException {
+        Date applicationDate = rs.getDate("application_date");
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        String jobType = rs.getString("job_type");
+        String workMode = rs.getString("work_mode");
+
+        return new JobApplicationView(
+                rs.getLong("job_application_id"),
+                rs.getLong("user_id"),
+                rs.getString("company_name"),
+                rs.getString("job_title"),
+                rs.getString("job_url"),
+                applicationDate != null ? applicationDate.toLocalDate() : null,
+                ApplicationStatus.valueOf(rs.getString("status")),
+                rs.getString("location"),
+                rs.getString("salary_range"),
+                jobType != null ? JobType.valueOf(jobType) : null,
+                workMode != null ? WorkMode.valueOf(workMode) : null,
+                rs.getString("notes"),
+                rs.getString("company_website"),
+                rs.getString("contact_person"),
+                rs.getString("contact_email"),
+                createdAt != null ? createdAt.toLocalDateTime() : null,
+                updatedAt != null ? updatedAt.toLocalDateTime() : null
+        );
+    }
+}
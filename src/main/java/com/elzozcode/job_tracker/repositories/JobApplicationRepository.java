@@ -2,7 +2,13 @@ package com.elzozcode.job_tracker.repositories;
 
 import com.elzozcode.job_tracker.entity.JobApplication;
 import com.elzozcode.job_tracker.entity.enums.ApplicationStatus;
+import com.elzozcode.job_tracker.repositories.projections.CollectionFingerprint;
+import com.elzozcode.job_tracker.repositories.projections.JobApplicationView;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,10 +17,35 @@ import java.util.Optional;
 @Repository
 public interface JobApplicationRepository  extends JpaRepository<JobApplication, Long> {
 
+    String VIEW_SELECT = "SELECT new com.elzozcode.job_tracker.repositories.projections.JobApplicationView(" +
+            "ja.id, ja.user.id, ja.companyName, ja.jobTitle, ja.jobUrl, ja.applicationDate, ja.status, " +
+            "ja.location, ja.salaryRange, ja.jobType, ja.workMode, ja.notes, ja.companyWebsite, " +
+            "ja.contactPerson, ja.contactEmail, ja.createdAt, ja.updatedAt) " +
+            "FROM JobApplication ja ";
+
+    @Query(VIEW_SELECT + "WHERE ja.user.id = :userId ORDER BY ja.applicationDate DESC, ja.id DESC")
+    List<JobApplicationView> findViewsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new com.elzozcode.job_tracker.repositories.projections.CollectionFingerprint(" +
+            "COUNT(ja), MAX(ja.updatedAt), COALESCE(SUM(ja.id), 0)) FROM JobApplication ja WHERE ja.user.id = :userId")
+    CollectionFingerprint findFingerprintByUserId(@Param("userId") Long userId);
+
+    @Query(VIEW_SELECT + "WHERE ja.job.id = :jobId AND ja.job.company.id = :companyId " +
+            "ORDER BY ja.applicationDate DESC, ja.id DESC")
+    List<JobApplicationView> findViewsByJobIdAndCompanyId(
+            @Param("jobId") Long jobId,
+            @Param("companyId") Long companyId
+    );
+
     List<JobApplication> findAllByUserId(long userId);
 
     Optional<JobApplication> findByIdAndUserId(Long id, Long userId);
 
+    // Serialises status changes of one application so the per-user status counters cannot drift
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ja FROM JobApplication ja WHERE ja.id = :id")
+    Optional<JobApplication> findByIdForUpdate(@Param("id") Long id);
+
     long countByUserIdAndStatus(long userId, ApplicationStatus status);
 
     List<JobApplication> findAllByUserIdOrderByApplicationDateDesc(Long userId);
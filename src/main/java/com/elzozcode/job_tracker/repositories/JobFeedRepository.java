@@ -0,0 +1,138 @@
+package com.elzozcode.job_tracker.repositories;
+
+import com.elzozcode.job_tracker.dtos.JobFeedItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Set-based writes for company feed sync. Going through JDBC batches instead of the
+ * entity manager keeps a several-thousand-row sync to a handful of round trips.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobFeedRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO jobs (company_id, job_url, job_title, description, requirements, location,
+                              job_type, work_mode, salary_min, salary_max, currency,
+                              posted_date, deadline_date, content_hash, is_active, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true, ?, ?)
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE jobs
+               SET job_url = ?, job_title = ?, description = ?, requirements = ?, location = ?,
+                   job_type = ?, work_mode = ?, salary_min = ?, salary_max = ?, currency = ?,
+                   posted_date = COALESCE(?, posted_date), deadline_date = ?, content_hash = ?,
+                   is_active = true, version = version + 1, updated_at = ?
+             WHERE job_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record ExistingJob(Long jobId, String jobUrl, String contentHash, boolean active) {
+    }
+
+    public record FeedRow(Long jobId, JobFeedItem item, String contentHash) {
+    }
+
+    /**
+     * @return the company's postings that have a job URL, ordered by URL with active rows first,
+     * so that postings sharing a URL come out together
+     */
+    public List<ExistingJob> findExistingByCompanyId(Long companyId) {
+        return jdbcTemplate.query(
+                "SELECT job_id, job_url, content_hash, is_active FROM jobs " +
+                        "WHERE company_id = ? AND job_url IS NOT NULL " +
+                        "ORDER BY job_url, is_active DESC, job_id",
+                (rs, rowNum) -> new ExistingJob(
+                        rs.getLong("job_id"),
+                        rs.getString("job_url"),
+                        rs.getString("content_hash"),
+                        rs.getBoolean("is_active")),
+                companyId);
+    }
+
+    public void insertAll(Long companyId, List<FeedRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date today = Date.valueOf(LocalDate.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            JobFeedItem item = row.item();
+            ps.setLong(1, companyId);
+            setContent(ps, 2, item);
+            ps.setDate(12, item.getPostedDate() != null ? Date.valueOf(item.getPostedDate()) : today);
+            setDate(ps, 13, item.getDeadlineDate());
+            ps.setString(14, row.contentHash());
+            ps.setTimestamp(15, now);
+            ps.setTimestamp(16, now);
+        });
+    }
+
+    public void updateAll(List<FeedRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPDATE_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            JobFeedItem item = row.item();
+            setContent(ps, 1, item);
+            setDate(ps, 11, item.getPostedDate());
+            setDate(ps, 12, item.getDeadlineDate());
+            ps.setString(13, row.contentHash());
+            ps.setTimestamp(14, now);
+            ps.setLong(15, row.jobId());
+        });
+    }
+
+    /**
+     * Deactivates the given jobs of the company in one statement.
+     *
+     * @return the number of jobs that were active before the call
+     */
+    public int deactivate(Long companyId, List<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "UPDATE jobs SET is_active = false, version = version + 1, updated_at = ? " +
+                            "WHERE company_id = ? AND is_active = true AND job_id = ANY (?)");
+            ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+            ps.setLong(2, companyId);
+            ps.setArray(3, connection.createArrayOf("bigint", jobIds.toArray()));
+            return ps;
+        });
+    }
+
+    private static void setContent(PreparedStatement ps, int from, JobFeedItem item) throws SQLException {
+        ps.setString(from, item.getJobUrl());
+        ps.setString(from + 1, item.getJobTitle());
+        ps.setString(from + 2, item.getDescription());
+        ps.setString(from + 3, item.getRequirements());
+        ps.setString(from + 4, item.getLocation());
+        ps.setString(from + 5, item.getJobType() != null ? item.getJobType().name() : null);
+        ps.setString(from + 6, item.getWorkMode() != null ? item.getWorkMode().name() : null);
+        ps.setBigDecimal(from + 7, item.getSalaryMin());
+        ps.setBigDecimal(from + 8, item.getSalaryMax());
+        ps.setString(from + 9, item.getCurrency());
+    }
+
+    private static void setDate(PreparedStatement ps, int index, LocalDate date) throws SQLException {
+        if (date != null) {
+            ps.setDate(index, Date.valueOf(date));
+        } else {
+            ps.setNull(index, Types.DATE);
+        }
+    }
+}
@@ -1,33 +1,96 @@
 package com.elzozcode.job_tracker.repositories;
 
 import com.elzozcode.job_tracker.entity.Job;
+import com.elzozcode.job_tracker.entity.enums.JobType;
+import com.elzozcode.job_tracker.entity.enums.WorkMode;
+import com.elzozcode.job_tracker.repositories.projections.JobSearchHit;
+import com.elzozcode.job_tracker.repositories.projections.JobVersion;
+import com.elzozcode.job_tracker.repositories.projections.JobView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
 
+    String JOB_VIEW_SELECT = "SELECT new com.elzozcode.job_tracker.repositories.projections.JobView(" +
+            "j.id, c.id, c.name, j.jobTitle, j.description, j.requirements, j.location, j.jobType, j.workMode, " +
+            "j.salaryMin, j.salaryMax, j.currency, j.jobUrl, j.postedDate, j.deadlineDate, j.isActive) " +
+            "FROM Job j JOIN j.company c ";
+
     List<Job> findByCompany_Id(Long companyId);
 
+    @Query("SELECT j.version AS jobVersion, c.version AS companyVersion FROM Job j JOIN j.company c WHERE j.id = :jobId")
+    Optional<JobVersion> findVersionById(@Param("jobId") Long jobId);
+
     List<Job> findByCompany_IdAndIsActiveTrue(Long companyId);
 
-    @Query("SELECT j FROM Job j WHERE j.company.id = :companyId AND j.isActive = true")
-    List<Job> findActiveJobsByCompanyId(@Param("companyId") Long companyId);
+    @Query(JOB_VIEW_SELECT + "WHERE c.id = :companyId AND j.isActive = true ORDER BY j.postedDate DESC, j.id DESC")
+    List<JobView> findActiveJobViewsByCompanyId(@Param("companyId") Long companyId);
+
+    @Query(JOB_VIEW_SELECT +
+            "WHERE j.isActive = true " +
+            "AND (:jobType IS NULL OR j.jobType = :jobType) " +
+            "AND (:workMode IS NULL OR j.workMode = :workMode) " +
+            "AND (:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) " +
+            "ORDER BY j.postedDate DESC, j.id DESC")
+    List<JobView> findActiveJobsFirstPage(
+            @Param("jobType") JobType jobType,
+            @Param("workMode") WorkMode workMode,
+            @Param("location") String location,
+            Limit limit
+    );
+
+    @Query(JOB_VIEW_SELECT +
+            "WHERE j.isActive = true " +
+            "AND (j.postedDate < :postedDate OR (j.postedDate = :postedDate AND j.id < :jobId)) " +
+            "AND (:jobType IS NULL OR j.jobType = :jobType) " +
+            "AND (:workMode IS NULL OR j.workMode = :workMode) " +
+            "AND (:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) " +
+            "ORDER BY j.postedDate DESC, j.id DESC")
+    List<JobView> findActiveJobsAfter(
+            @Param("postedDate") LocalDate postedDate,
+            @Param("jobId") Long jobId,
+            @Param("jobType") JobType jobType,
+            @Param("workMode") WorkMode workMode,
+            @Param("location") String location,
+            Limit limit
+    );
 
-    @Query("SELECT j FROM Job j WHERE j.isActive = true ORDER BY j.postedDate DESC")
-    List<Job> findAllActiveJobs();
+    @Query(value = """
+            SELECT hits.id AS id,
+                   hits.rank AS rank,
+                   ts_headline('english', COALESCE(j.description, ''), to_tsquery('english', :query),
+                               'MaxFragments=2, MaxWords=30, MinWords=10, StartSel=<mark>, StopSel=</mark>') AS snippet
+            FROM (
+                SELECT j.job_id AS id,
+                       CAST(ts_rank(j.search_vector, q) AS double precision) AS rank
+                FROM jobs j, to_tsquery('english', :query) q
+                WHERE j.is_active = true AND j.search_vector @@ q
+                ORDER BY rank DESC, j.job_id DESC
+                LIMIT :limit OFFSET :offset
+            ) hits
+            JOIN jobs j ON j.job_id = hits.id
+            ORDER BY hits.rank DESC, hits.id DESC
+            """, nativeQuery = true)
+    List<JobSearchHit> searchActiveJobs(
+            @Param("query") String query,
+            @Param("limit") int limit,
+            @Param("offset") int offset
+    );
 
-    @Query("SELECT j FROM Job j WHERE j.isActive = true AND (LOWER(j.jobTitle) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(j.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
-    List<Job> searchActiveJobs(@Param("searchTerm") String searchTerm);
+    @Query(JOB_VIEW_SELECT + "WHERE j.id IN :ids")
+    List<JobView> findJobViewsByIdIn(@Param("ids") Collection<Long> ids);
 
-    @Query("SELECT j FROM Job j WHERE j.isActive = true AND j.deadlineDate >= :currentDate ORDER BY j.deadlineDate ASC")
-    List<Job> findUpcomingDeadlineJobs(@Param("currentDate") LocalDate currentDate);
+    @Query(JOB_VIEW_SELECT + "WHERE j.isActive = true AND j.deadlineDate >= :currentDate ORDER BY j.deadlineDate ASC")
+    List<JobView> findUpcomingDeadlineJobs(@Param("currentDate") LocalDate currentDate);
 
     @Query("SELECT COUNT(j) FROM Job j WHERE j.company.id = :companyId AND j.isActive = true")
     Long countActiveJobsByCompanyId(@Param("companyId") Long companyId);
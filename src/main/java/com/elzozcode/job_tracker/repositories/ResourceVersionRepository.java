@@ -0,0 +1,16 @@
+package com.elzozcode.job_tracker.repositories;
+
+import com.elzozcode.job_tracker.entity.ResourceVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ResourceVersionRepository extends JpaRepository<ResourceVersion, String> {
+
+    @Query("SELECT r.version FROM ResourceVersion r WHERE r.name = :name")
+    Optional<Long> findVersionByName(@Param("name") String name);
+}
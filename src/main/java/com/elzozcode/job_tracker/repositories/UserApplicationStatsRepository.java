@@ -0,0 +1,77 @@
+package com.elzozcode.job_tracker.repositories;
+
+import com.elzozcode.job_tracker.entity.enums.ApplicationStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Status counters per user. Increments are single atomic upserts, so concurrent writers never
+ * read-modify-write the same counter; callers run them inside the transaction of the change they count.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserApplicationStatsRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO user_application_stats (user_id, status, application_count)
+            VALUES (?, ?, ?)
+            ON CONFLICT (user_id, status)
+                DO UPDATE SET application_count = user_application_stats.application_count + EXCLUDED.application_count
+            """;
+
+    private static final String SUBTRACT_SQL = """
+            UPDATE user_application_stats s
+            SET application_count = s.application_count - d.application_count
+            FROM (
+                SELECT user_id, status, COUNT(*) AS application_count
+                FROM job_applications
+                WHERE job_id IN (%s)
+                GROUP BY user_id, status
+            ) d
+            WHERE s.user_id = d.user_id
+              AND s.status = d.status
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void increment(Long userId, ApplicationStatus status, long delta) {
+        jdbcTemplate.update(UPSERT_SQL, userId, status.name(), delta);
+    }
+
+    /**
+     * Takes the job's applications out of their owners' counters. Call before deleting the job,
+     * while the applications that the delete cascades to are still there.
+     */
+    public void subtractApplicationsOfJob(Long jobId) {
+        jdbcTemplate.update(SUBTRACT_SQL.formatted("?"), jobId);
+    }
+
+    /**
+     * Same as {@link #subtractApplicationsOfJob(Long)} for every job of the company.
+     */
+    public void subtractApplicationsOfCompany(Long companyId) {
+        jdbcTemplate.update(SUBTRACT_SQL.formatted("SELECT job_id FROM jobs WHERE company_id = ?"), companyId);
+    }
+
+    /**
+     * @return the count of every status for the user, zero for statuses without applications
+     */
+    public Map<ApplicationStatus, Long> findCountsByUserId(Long userId) {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            counts.put(status, 0L);
+        }
+
+        jdbcTemplate.query(
+                "SELECT status, application_count FROM user_application_stats WHERE user_id = ?",
+                rs -> {
+                    counts.put(ApplicationStatus.valueOf(rs.getString("status")), rs.getLong("application_count"));
+                },
+                userId);
+        return counts;
+    }
+}
@@ -1,9 +1,17 @@
 package com.elzozcode.job_tracker.repositories;
 
 import com.elzozcode.job_tracker.entity.User;
+import com.elzozcode.job_tracker.repositories.projections.AccountCredentials;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -12,4 +20,42 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsUsersByPassword(String password);
 
     Optional<User> findByEmail(String email);
+
+    @Query(value = """
+            SELECT a.id AS id, a.email AS email, a.password AS password, a.name AS name, a.type AS type
+            FROM (
+                SELECT u.user_id AS id, u.email, u.password, u.full_name AS name, 'USER' AS type
+                FROM users u
+                WHERE LOWER(u.email) = LOWER(:email)
+                UNION ALL
+                SELECT c.company_id, c.email, c.password, c.name, 'COMPANY'
+                FROM companies c
+                WHERE LOWER(c.email) = LOWER(:email)
+            ) a
+            ORDER BY a.type DESC, (a.email = :email) DESC, a.id
+            LIMIT 1
+            """, nativeQuery = true)
+    Optional<AccountCredentials> findAccountByEmail(@Param("email") String email);
+
+    @Query(value = """
+            SELECT EXISTS (
+                SELECT 1 FROM users u WHERE LOWER(u.email) = LOWER(:email)
+                UNION ALL
+                SELECT 1 FROM companies c WHERE LOWER(c.email) = LOWER(:email)
+            )
+            """, nativeQuery = true)
+    boolean existsAccountByEmail(@Param("email") String email);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query(value = """
+            SELECT LOWER(u.email) FROM users u
+            UNION ALL
+            SELECT LOWER(c.email) FROM companies c
+            """, nativeQuery = true)
+    Stream<String> streamAllAccountEmails();
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
 }
@@ -0,0 +1,14 @@
+package com.elzozcode.job_tracker.repositories.projections;
+
+public interface AccountCredentials {
+
+    Long getId();
+
+    String getEmail();
+
+    String getPassword();
+
+    String getName();
+
+    String getType();
+}
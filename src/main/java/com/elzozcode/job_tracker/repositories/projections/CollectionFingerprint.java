@@ -0,0 +1,9 @@
+package com.elzozcode.job_tracker.repositories.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row count, latest update and id sum of a collection: any insert, update or delete changes at least one.
+ */
+public record CollectionFingerprint(Long count, LocalDateTime lastUpdated, Long idSum) {
+}
@@ -0,0 +1,10 @@
+package com.elzozcode.job_tracker.repositories.projections;
+
+public interface CompanySuggestionSource {
+
+    Long getId();
+
+    String getName();
+
+    String getIndustry();
+}
@@ -0,0 +1,26 @@
+package com.elzozcode.job_tracker.repositories.projections;
+
+import com.elzozcode.job_tracker.entity.enums.InterviewResult;
+import com.elzozcode.job_tracker.entity.enums.InterviewStatus;
+import com.elzozcode.job_tracker.entity.enums.InterviewType;
+
+import java.time.LocalDateTime;
+
+public record InterviewView(
+        Long id,
+        Long jobApplicationId,
+        LocalDateTime interviewDate,
+        InterviewType interviewType,
+        InterviewStatus status,
+        String location,
+        String interviewerName,
+        Integer duration,
+        String notes,
+        String feedback,
+        InterviewResult result,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        String companyName,
+        String jobTitle
+) {
+}
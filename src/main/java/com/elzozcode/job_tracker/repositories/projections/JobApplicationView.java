@@ -0,0 +1,29 @@
+package com.elzozcode.job_tracker.repositories.projections;
+
+import com.elzozcode.job_tracker.entity.enums.ApplicationStatus;
+import com.elzozcode.job_tracker.entity.enums.JobType;
+import com.elzozcode.job_tracker.entity.enums.WorkMode;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record JobApplicationView(
+        Long id,
+        Long userId,
+        String companyName,
+        String jobTitle,
+        String jobUrl,
+        LocalDate applicationDate,
+        ApplicationStatus status,
+        String location,
+        String salaryRange,
+        JobType jobType,
+        WorkMode workMode,
+        String notes,
+        String companyWebsite,
+        String contactPerson,
+        String contactEmail,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,10 @@
+package com.elzozcode.job_tracker.repositories.projections;
+
+public interface JobSearchHit {
+
+    Long getId();
+
+    Double getRank();
+
+    String getSnippet();
+}
@@ -0,0 +1,8 @@
+package com.elzozcode.job_tracker.repositories.projections;
+
+public interface JobVersion {
+
+    Long getJobVersion();
+
+    Long getCompanyVersion();
+}
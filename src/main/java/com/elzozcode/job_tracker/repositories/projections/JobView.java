@@ -0,0 +1,27 @@
+package com.elzozcode.job_tracker.repositories.projections;
+
+import com.elzozcode.job_tracker.entity.enums.JobType;
+import com.elzozcode.job_tracker.entity.enums.WorkMode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record JobView(
+        Long id,
+        Long companyId,
+        String companyName,
+        String jobTitle,
+        String description,
+        String requirements,
+        String location,
+        JobType jobType,
+        WorkMode workMode,
+        BigDecimal salaryMin,
+        BigDecimal salaryMax,
+        String currency,
+        String jobUrl,
+        LocalDate postedDate,
+        LocalDate deadlineDate,
+        Boolean isActive
+) {
+}
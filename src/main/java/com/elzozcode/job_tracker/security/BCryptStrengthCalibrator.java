@@ -0,0 +1,49 @@
+package com.elzozcode.job_tracker.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Picks the highest BCrypt strength whose hash time on this machine stays within a latency budget.
+ * Every extra round doubles the cost, so the next strength is only measured when twice the
+ * current measurement still fits.
+ */
+public final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "Calibration-Sample-1";
+    private static final int SAMPLES = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(Duration budget, int minStrength, int maxStrength) {
+        long budgetNanos = budget.toNanos();
+        int strength = minStrength;
+        long measured = measure(strength);
+
+        while (strength < maxStrength && measured * 2 <= budgetNanos) {
+            strength++;
+            measured = measure(strength);
+        }
+
+        if (measured > budgetNanos && strength > minStrength) {
+            strength--;
+        }
+
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD);
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
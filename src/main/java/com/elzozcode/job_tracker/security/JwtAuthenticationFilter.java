@@ -1,5 +1,6 @@
 package com.elzozcode.job_tracker.security;
 
+import com.elzozcode.job_tracker.entity.enums.Role;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -14,12 +15,14 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final TokenRevocationList tokenRevocationList;
 
     @Override
     protected void doFilterInternal(
@@ -38,12 +41,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             final String jwt = authHeader.substring(7);
 
-            if (jwtUtil.validateToken(jwt)) {
-                Claims claims = jwtUtil.extractAllClaims(jwt);
+            Optional<Claims> verifiedClaims = jwtUtil.verifyToken(jwt)
+                    .filter(JwtUtil::isAccessToken)
+                    .filter(claims -> !tokenRevocationList.isRevoked(claims));
+
+            if (verifiedClaims.isPresent()) {
+                Claims claims = verifiedClaims.get();
 
                 Long userId = claims.get("userId", Long.class);
                 String email = claims.getSubject();
-                String role = claims.get("role", String.class);
+                Role role = Role.valueOf(claims.get("role", String.class));
                 Long companyId = claims.get("companyId", Long.class);
 
                 UserPrincipal userPrincipal = new UserPrincipal(userId, email, role, companyId);
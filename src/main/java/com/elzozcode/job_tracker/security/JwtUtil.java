@@ -2,9 +2,14 @@ package com.elzozcode.job_tracker.security;
 
 import com.elzozcode.job_tracker.entity.Company;
 import com.elzozcode.job_tracker.entity.User;
+import com.elzozcode.job_tracker.entity.enums.Role;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -12,48 +17,122 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
+    public static final String TOKEN_USE_CLAIM = "token_use";
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+    public static final String FAMILY_CLAIM = "family";
+
+    private final VerifiedClaimsCache verifiedClaimsCache;
+
     @Value("${jwt.secret}")
     private String secretKey;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
-    private SecretKey getSignKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+    @Value("${jwt.refresh-expiration:604800000}")
+    private long refreshExpiration;
+
+    private SecretKey signKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        signKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        jwtParser = Jwts.parser()
+                .verifyWith(signKey)
+                .build();
     }
 
     public String generateUserToken(User user) {
+        return generateUserToken(user.getId(), user.getEmail());
+    }
+
+    public String generateUserToken(Long userId, String email) {
+        return createToken(userClaims(userId), email, ACCESS_TOKEN, jwtExpiration);
+    }
+
+    public String generateUserRefreshToken(Long userId, String email) {
+        return generateUserRefreshToken(userId, email, UUID.randomUUID().toString());
+    }
+
+    public String generateUserRefreshToken(Long userId, String email, String family) {
+        return createToken(withFamily(userClaims(userId), family), email, REFRESH_TOKEN, refreshExpiration);
+    }
+
+    public String generateCompanyToken(Company company) {
+        return generateCompanyToken(company.getId(), company.getEmail());
+    }
+
+    public String generateCompanyToken(Long companyId, String email) {
+        return createToken(companyClaims(companyId), email, ACCESS_TOKEN, jwtExpiration);
+    }
+
+    public String generateCompanyRefreshToken(Long companyId, String email) {
+        return generateCompanyRefreshToken(companyId, email, UUID.randomUUID().toString());
+    }
+
+    public String generateCompanyRefreshToken(Long companyId, String email, String family) {
+        return createToken(withFamily(companyClaims(companyId), family), email, REFRESH_TOKEN, refreshExpiration);
+    }
+
+    /**
+     * @return the family a refresh token was rotated within; tokens issued before families existed are their own
+     */
+    public static String familyOf(Claims claims) {
+        String family = claims.get(FAMILY_CLAIM, String.class);
+        return family != null ? family : claims.getId();
+    }
+
+    /**
+     * @return when the last refresh token that could still be rotated from now on expires
+     */
+    public Date refreshFamilyExpiration() {
+        return new Date(System.currentTimeMillis() + refreshExpiration);
+    }
+
+    private static Map<String, Object> withFamily(Map<String, Object> claims, String family) {
+        claims.put(FAMILY_CLAIM, family);
+        return claims;
+    }
+
+    private Map<String, Object> userClaims(Long userId) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("userId", user.getId());
-        claims.put("role", "ROLE_USER");
+        claims.put("userId", userId);
+        claims.put("role", Role.ROLE_USER.name());
         claims.put("type", "USER");
         claims.put("companyId", null);
-
-        return createToken(claims, user.getEmail());
+        return claims;
     }
 
-    public String generateCompanyToken(Company company) {
+    private Map<String, Object> companyClaims(Long companyId) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("userId", company.getId());
-        claims.put("role", "ROLE_COMPANY");
+        claims.put("userId", companyId);
+        claims.put("role", Role.ROLE_COMPANY.name());
         claims.put("type", "COMPANY");
-        claims.put("companyId", company.getId());
-
-        return createToken(claims, company.getEmail());
+        claims.put("companyId", companyId);
+        return claims;
     }
 
-    private String createToken(Map<String, Object> claims, String subject) {
+    private String createToken(Map<String, Object> claims, String subject, String tokenUse, long ttlMillis) {
+        long now = System.currentTimeMillis();
+
         return Jwts.builder()
                 .claims(claims)
+                .claim(TOKEN_USE_CLAIM, tokenUse)
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
-                .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSignKey())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + ttlMillis))
+                .signWith(signKey)
                 .compact();
     }
 
@@ -86,11 +165,23 @@ public class JwtUtil {
     }
 
     public Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    public Optional<Claims> verifyToken(String token) {
+        try {
+            return Optional.of(verifiedClaimsCache.getOrVerify(token, this::extractAllClaims));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static boolean isAccessToken(Claims claims) {
+        return ACCESS_TOKEN.equals(claims.get(TOKEN_USE_CLAIM, String.class));
+    }
+
+    public static boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN.equals(claims.get(TOKEN_USE_CLAIM, String.class));
     }
 
     public boolean isTokenExpired(String token) {
@@ -98,10 +189,6 @@ public class JwtUtil {
     }
 
     public boolean validateToken(String token) {
-        try {
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
-        }
+        return verifyToken(token).isPresent();
     }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.elzozcode.job_tracker.security;
+
+import com.elzozcode.job_tracker.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-email and per-IP token buckets for /auth/login, checked before any password hashing.
+ * Buckets live in concurrent caches that drop them after a period of inactivity.
+ */
+@Component
+public class LoginThrottle {
+
+    private final boolean enabled;
+    private final long emailCapacity;
+    private final double emailRefillPerMinute;
+    private final long ipCapacity;
+    private final double ipRefillPerMinute;
+
+    private final Cache<String, TokenBucket> emailBuckets;
+    private final Cache<String, TokenBucket> ipBuckets;
+
+    private final Counter allowed;
+    private final Counter rejectedByEmail;
+    private final Counter rejectedByIp;
+
+    public LoginThrottle(
+            MeterRegistry meterRegistry,
+            @Value("${auth.login-throttle.enabled:true}") boolean enabled,
+            @Value("${auth.login-throttle.email.capacity:5}") long emailCapacity,
+            @Value("${auth.login-throttle.email.refill-per-minute:5}") double emailRefillPerMinute,
+            @Value("${auth.login-throttle.ip.capacity:50}") long ipCapacity,
+            @Value("${auth.login-throttle.ip.refill-per-minute:60}") double ipRefillPerMinute,
+            @Value("${auth.login-throttle.idle-timeout:15m}") Duration idleTimeout,
+            @Value("${auth.login-throttle.max-tracked-keys:100000}") long maxTrackedKeys
+    ) {
+        this.enabled = enabled;
+        this.emailCapacity = emailCapacity;
+        this.emailRefillPerMinute = emailRefillPerMinute;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerMinute = ipRefillPerMinute;
+
+        this.emailBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .maximumSize(maxTrackedKeys)
+                .build();
+        this.ipBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .maximumSize(maxTrackedKeys)
+                .build();
+
+        this.allowed = Counter.builder("auth.login_throttle.decisions")
+                .tag("result", "allowed")
+                .register(meterRegistry);
+        this.rejectedByEmail = Counter.builder("auth.login_throttle.decisions")
+                .tag("result", "rejected_email")
+                .register(meterRegistry);
+        this.rejectedByIp = Counter.builder("auth.login_throttle.decisions")
+                .tag("result", "rejected_ip")
+                .register(meterRegistry);
+        Gauge.builder("auth.login_throttle.tracked_keys", emailBuckets, Cache::estimatedSize)
+                .tag("scope", "email")
+                .register(meterRegistry);
+        Gauge.builder("auth.login_throttle.tracked_keys", ipBuckets, Cache::estimatedSize)
+                .tag("scope", "ip")
+                .register(meterRegistry);
+    }
+
+    public void acquire(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.nanoTime();
+
+        long ipWait = ipBuckets
+                .get(clientIp, key -> new TokenBucket(ipCapacity, ipRefillPerMinute, now))
+                .tryConsume(now);
+        if (ipWait > 0) {
+            rejectedByIp.increment();
+            throw rejection(ipWait);
+        }
+
+        long emailWait = emailBuckets
+                .get(email.toLowerCase(Locale.ROOT), key -> new TokenBucket(emailCapacity, emailRefillPerMinute, now))
+                .tryConsume(now);
+        if (emailWait > 0) {
+            rejectedByEmail.increment();
+            throw rejection(emailWait);
+        }
+
+        allowed.increment();
+    }
+
+    private static TooManyRequestsException rejection(long waitNanos) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+        return new TooManyRequestsException("Too many login attempts, please try again later", retryAfterSeconds);
+    }
+}
@@ -0,0 +1,103 @@
+package com.elzozcode.job_tracker.security;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory deny-list of revoked token IDs, bucketed by the minute in which each token expires.
+ * A lookup only touches the bucket of the presented token, and whole buckets are dropped once
+ * every token in them has expired and would be rejected by signature validation anyway.
+ * Refresh token families are revoked as a whole when a rotated refresh token is replayed.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final long BUCKET_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final ConcurrentSkipListMap<Long, Set<UUID>> buckets = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, Long> revokedFamilies = new ConcurrentHashMap<>();
+
+    public TokenRevocationList(MeterRegistry meterRegistry) {
+        Gauge.builder("auth.token_revocation.entries", this, TokenRevocationList::size)
+                .description("Revoked token IDs that have not expired yet")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return {@code true} if the token was revoked by this call, {@code false} if it was already revoked
+     */
+    public boolean revoke(Claims claims) {
+        UUID tokenId = tokenId(claims);
+        Date expiration = claims.getExpiration();
+        if (tokenId == null || expiration == null) {
+            return false;
+        }
+
+        return buckets.computeIfAbsent(bucketOf(expiration.getTime()), key -> ConcurrentHashMap.newKeySet())
+                .add(tokenId);
+    }
+
+    public boolean isRevoked(Claims claims) {
+        UUID tokenId = tokenId(claims);
+        Date expiration = claims.getExpiration();
+        if (tokenId == null || expiration == null) {
+            return true;
+        }
+
+        Set<UUID> bucket = buckets.get(bucketOf(expiration.getTime()));
+        return bucket != null && bucket.contains(tokenId);
+    }
+
+    /**
+     * Revokes every refresh token of the presented token's family; {@code until} is the latest
+     * expiration any of them can have.
+     */
+    public void revokeFamily(Claims claims, Date until) {
+        String family = JwtUtil.familyOf(claims);
+        if (family != null) {
+            revokedFamilies.merge(family, until.getTime(), Math::max);
+        }
+    }
+
+    public boolean isFamilyRevoked(Claims claims) {
+        String family = JwtUtil.familyOf(claims);
+        return family != null && revokedFamilies.containsKey(family);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        buckets.headMap(bucketOf(now)).clear();
+        revokedFamilies.values().removeIf(until -> until < now);
+    }
+
+    public long size() {
+        return buckets.values().stream().mapToLong(Set::size).sum() + revokedFamilies.size();
+    }
+
+    private static long bucketOf(long epochMillis) {
+        return epochMillis / BUCKET_MILLIS;
+    }
+
+    private static UUID tokenId(Claims claims) {
+        String id = claims.getId();
+        if (id == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -1,41 +1,54 @@
 package com.elzozcode.job_tracker.security;
 
+import com.elzozcode.job_tracker.entity.enums.Role;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 @Getter
 public class UserPrincipal implements UserDetails {
 
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority(role.name())));
+        }
+    }
+
     private final Long userId;
     private final String email;
-    private final Collection<? extends GrantedAuthority> authorities;
+    private final Role role;
     private final Long companyId;
+    private final boolean company;
+    private final boolean user;
 
-    public UserPrincipal(Long userId, String email, String role, Long companyId) {
+    public UserPrincipal(Long userId, String email, Role role, Long companyId) {
         this.userId = userId;
         this.email = email;
-        this.authorities = Collections.singletonList(new SimpleGrantedAuthority(role));
+        this.role = role;
         this.companyId = companyId;
+        this.company = role == Role.ROLE_COMPANY;
+        this.user = role == Role.ROLE_USER;
     }
 
     public boolean isCompany() {
-        return authorities.stream()
-                .anyMatch(auth -> auth.getAuthority().equals("ROLE_COMPANY"));
+        return company;
     }
 
     public boolean isUser() {
-        return authorities.stream()
-                .anyMatch(auth -> auth.getAuthority().equals("ROLE_USER"));
+        return user;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return authorities;
+        return AUTHORITIES.get(role);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.elzozcode.job_tracker.services;
 
 import com.elzozcode.job_tracker.dtos.LoginDto;
+import com.elzozcode.job_tracker.dtos.RefreshTokenDto;
 import com.elzozcode.job_tracker.dtos.RegisterDto;
 import com.elzozcode.job_tracker.entity.enums.UserType;
 import com.elzozcode.job_tracker.dtos.response.AuthResponse;
@@ -10,14 +11,16 @@ import com.elzozcode.job_tracker.exception.DuplicateResourceException;
 import com.elzozcode.job_tracker.exception.InvalidCredentialsException;
 import com.elzozcode.job_tracker.repositories.UserRepository;
 import com.elzozcode.job_tracker.repositories.CompanyRepository;
+import com.elzozcode.job_tracker.repositories.projections.AccountCredentials;
 import com.elzozcode.job_tracker.security.JwtUtil;
+import com.elzozcode.job_tracker.security.TokenRevocationList;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
-
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -26,12 +29,14 @@ public class AuthService {
     private final CompanyRepository companyRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final RegisteredEmailIndex registeredEmailIndex;
+    private final TokenRevocationList tokenRevocationList;
+    private final CompanySuggestionIndex companySuggestionIndex;
 
     @Transactional
     public AuthResponse register(RegisterDto request) {
 
-        if (userRepository.existsUsersByEmail(request.getEmail()) ||
-                companyRepository.existsCompanyByEmail(request.getEmail())) {
+        if (registeredEmailIndex.isRegistered(request.getEmail())) {
             throw new DuplicateResourceException("Email already exists!");
         }
 
@@ -44,17 +49,14 @@ public class AuthService {
                     .username(request.getUsername())
                     .build();
 
-            user = userRepository.save(user);
-
-            String token = jwtUtil.generateUserToken(user);
+            try {
+                user = userRepository.save(user);
+            } catch (DataIntegrityViolationException e) {
+                throw new DuplicateResourceException("Email already exists!");
+            }
+            registeredEmailIndex.add(user.getEmail());
 
-            return AuthResponse.success(
-                    user.getId(),
-                    user.getEmail(),
-                    user.getFullName(),
-                    UserType.USER.toString().toUpperCase(),
-                    token
-            );
+            return issueTokens(UserType.USER, user.getId(), user.getEmail(), user.getFullName());
         }
 
         Company company = Company.builder()
@@ -63,57 +65,106 @@ public class AuthService {
                 .password(passwordEncoder.encode(request.getPassword()))
                 .build();
 
-        company = companyRepository.save(company);
-
-        String token = jwtUtil.generateCompanyToken(company);
+        try {
+            company = companyRepository.save(company);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateResourceException("Email or company name already exists!");
+        }
+        registeredEmailIndex.add(company.getEmail());
+        companySuggestionIndex.put(company.getId(), company.getName(), company.getIndustry());
 
-        return AuthResponse.success(
-                company.getId(),
-                company.getEmail(),
-                company.getName(),
-                UserType.COMPANY.toString().toUpperCase(),
-                token
-        );
+        return issueTokens(UserType.COMPANY, company.getId(), company.getEmail(), company.getName());
     }
 
     public AuthResponse login(LoginDto request) {
 
-        Optional<User> userOpt = userRepository.findByEmail(request.getEmail());
+        AccountCredentials account = userRepository.findAccountByEmail(request.getEmail())
+                .orElseThrow(() -> new InvalidCredentialsException("Invalid email or password"));
 
-        if (userOpt.isPresent()) {
-            User user = userOpt.get();
+        if (!passwordEncoder.matches(request.getPassword(), account.getPassword())) {
+            throw new InvalidCredentialsException("Invalid email or password");
+        }
 
-            if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-                throw new InvalidCredentialsException("Invalid email or password");
+        UserType type = UserType.valueOf(account.getType());
+
+        if (passwordEncoder.upgradeEncoding(account.getPassword())) {
+            String rehashed = passwordEncoder.encode(request.getPassword());
+
+            if (type == UserType.USER) {
+                userRepository.updatePassword(account.getId(), rehashed);
+            } else {
+                companyRepository.updatePassword(account.getId(), rehashed);
             }
+        }
+
+        return issueTokens(type, account.getId(), account.getEmail(), account.getName());
+    }
+
+    public AuthResponse refresh(RefreshTokenDto request) {
 
-            return AuthResponse.success(
-                    user.getId(),
-                    user.getEmail(),
-                    user.getFullName(),
-                    "USER",
-                    jwtUtil.generateUserToken(user)
-            );
+        Claims claims = jwtUtil.verifyToken(request.getRefreshToken())
+                .filter(JwtUtil::isRefreshToken)
+                .orElseThrow(() -> new InvalidCredentialsException("Invalid refresh token"));
+
+        if (tokenRevocationList.isFamilyRevoked(claims)) {
+            throw new InvalidCredentialsException("Invalid refresh token");
         }
 
-        Optional<Company> companyOpt = companyRepository.findByEmail(request.getEmail());
+        // Rotation: the presented refresh token is single-use. A replay means it leaked, so every
+        // token rotated from the same login is revoked with it.
+        if (!tokenRevocationList.revoke(claims)) {
+            tokenRevocationList.revokeFamily(claims, jwtUtil.refreshFamilyExpiration());
+            throw new InvalidCredentialsException("Invalid refresh token");
+        }
 
-        if (companyOpt.isEmpty()) {
-            throw new InvalidCredentialsException("Invalid email or password");
+        UserType type = UserType.valueOf(claims.get("type", String.class));
+        Long id = claims.get("userId", Long.class);
+
+        String name = (type == UserType.USER
+                ? userRepository.findById(id).map(User::getFullName)
+                : companyRepository.findById(id).map(Company::getName))
+                .orElseThrow(() -> new InvalidCredentialsException("Invalid refresh token"));
+
+        return issueTokens(type, id, claims.getSubject(), name, JwtUtil.familyOf(claims));
+    }
+
+    public void logout(RefreshTokenDto request, String accessToken) {
+
+        jwtUtil.verifyToken(request.getRefreshToken())
+                .filter(JwtUtil::isRefreshToken)
+                .ifPresent(tokenRevocationList::revoke);
+
+        if (accessToken != null) {
+            jwtUtil.verifyToken(accessToken)
+                    .filter(JwtUtil::isAccessToken)
+                    .ifPresent(tokenRevocationList::revoke);
         }
+    }
 
-        Company company = companyOpt.get();
+    private AuthResponse issueTokens(UserType type, Long id, String email, String name) {
+        return issueTokens(type, id, email, name, null);
+    }
 
-        if (!passwordEncoder.matches(request.getPassword(), company.getPassword())) {
-            throw new InvalidCredentialsException("Invalid email or password");
+    /**
+     * @param family the refresh token family to continue, or {@code null} to start one at login
+     */
+    private AuthResponse issueTokens(UserType type, Long id, String email, String name, String family) {
+
+        String token = type == UserType.USER
+                ? jwtUtil.generateUserToken(id, email)
+                : jwtUtil.generateCompanyToken(id, email);
+
+        String refreshToken;
+        if (type == UserType.USER) {
+            refreshToken = family == null
+                    ? jwtUtil.generateUserRefreshToken(id, email)
+                    : jwtUtil.generateUserRefreshToken(id, email, family);
+        } else {
+            refreshToken = family == null
+                    ? jwtUtil.generateCompanyRefreshToken(id, email)
+                    : jwtUtil.generateCompanyRefreshToken(id, email, family);
         }
 
-        return AuthResponse.success(
-                company.getId(),
-                company.getEmail(),
-                company.getName(),
-                "COMPANY",
-                jwtUtil.generateCompanyToken(company)
-        );
+        return AuthResponse.success(id, email, name, type.toString(), token, refreshToken);
     }
 }
\ No newline at end of file
@@ -1,14 +1,21 @@
 package com.elzozcode.job_tracker.services;
 
 import com.elzozcode.job_tracker.dtos.CompanyDto;
+import com.elzozcode.job_tracker.dtos.response.CompanySuggestion;
 import com.elzozcode.job_tracker.entity.Company;
+import com.elzozcode.job_tracker.entity.ResourceVersion;
 import com.elzozcode.job_tracker.exception.DuplicateResourceException;
 import com.elzozcode.job_tracker.exception.ResourceNotFoundException;
 import com.elzozcode.job_tracker.repositories.CompanyRepository;
+import com.elzozcode.job_tracker.repositories.DenormalizationOutboxRepository;
+import com.elzozcode.job_tracker.repositories.ResourceVersionRepository;
+import com.elzozcode.job_tracker.repositories.UserApplicationStatsRepository;
 import com.elzozcode.job_tracker.security.UserPrincipal;
+import com.elzozcode.job_tracker.utils.ETags;
+import com.elzozcode.job_tracker.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -20,6 +27,13 @@ import java.util.stream.Collectors;
 public class CompanyService {
 
     private final CompanyRepository companyRepository;
+    private final CompanySuggestionIndex companySuggestionIndex;
+    private final ResourceVersionRepository resourceVersionRepository;
+    private final DenormalizationOutboxRepository outboxRepository;
+    private final UserApplicationStatsRepository userApplicationStatsRepository;
+
+    private static final int DEFAULT_SUGGESTIONS = 10;
+    private static final int MAX_SUGGESTIONS = 50;
 
     public CompanyDto createCompany(CompanyDto companyDto) {
         if (companyRepository.existsByNameIgnoreCase(companyDto.getName())) {
@@ -35,9 +49,11 @@ public class CompanyService {
                 .build();
 
         Company savedCompany = companyRepository.save(company);
+        companySuggestionIndex.put(savedCompany.getId(), savedCompany.getName(), savedCompany.getIndustry());
         return mapToDto(savedCompany);
     }
 
+    @Transactional(readOnly = true)
     public CompanyDto getCompanyProfile() {
         UserPrincipal userPrincipal = getUserPrincipal();
         Company company = companyRepository.findById(userPrincipal.getCompanyId())
@@ -50,6 +66,7 @@ public class CompanyService {
         Company company = companyRepository.findById(userPrincipal.getCompanyId())
                 .orElseThrow(() -> new ResourceNotFoundException("Company not found with id: " + userPrincipal.getCompanyId()));
 
+        boolean renamed = !company.getName().equals(companyDto.getName());
         company.setName(companyDto.getName());
         company.setDescription(companyDto.getDescription());
         company.setWebsite(companyDto.getWebsite());
@@ -57,39 +74,69 @@ public class CompanyService {
         company.setLocation(companyDto.getLocation());
 
         Company updatedCompany = companyRepository.save(company);
+        if (renamed) {
+            outboxRepository.enqueue(DenormalizationOutboxRepository.COMPANY, updatedCompany.getId());
+        }
+        companySuggestionIndex.put(updatedCompany.getId(), updatedCompany.getName(), updatedCompany.getIndustry());
         return mapToDto(updatedCompany);
     }
 
+    @Transactional(readOnly = true)
+    public String getCompanyETag(Long companyId) {
+        Long version = companyRepository.findVersionById(companyId)
+                .orElseThrow(() -> new ResourceNotFoundException("Company not found with id: " + companyId));
+        return ETags.strong(companyId, version);
+    }
+
+    @Transactional(readOnly = true)
+    public String getAllCompaniesETag() {
+        return ETags.strong(ResourceVersion.COMPANIES,
+                resourceVersionRepository.findVersionByName(ResourceVersion.COMPANIES).orElse(0L));
+    }
+
+    @Transactional(readOnly = true)
     public CompanyDto getCompanyById(Long companyId) {
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new ResourceNotFoundException("Company not found with id: " + companyId));
         return mapToDto(company);
     }
 
+    @Transactional(readOnly = true)
     public CompanyDto getCompanyByName(String name) {
         Company company = companyRepository.findByNameIgnoreCase(name)
                 .orElseThrow(() -> new ResourceNotFoundException("Company not found with name: " + name));
         return mapToDto(company);
     }
 
+    @Transactional(readOnly = true)
     public List<CompanyDto> getAllCompanies() {
         return companyRepository.findAll().stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<CompanyDto> searchCompanies(String searchTerm) {
         return companyRepository.searchCompanies(searchTerm).stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<CompanyDto> getCompaniesByIndustry(String industry) {
         return companyRepository.findByIndustry(industry).stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
 
+    // Served from memory: no transaction, so a keystroke never checks out a connection
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<CompanySuggestion> suggest(String prefix, Integer limit) {
+        int size = limit == null ? DEFAULT_SUGGESTIONS : Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        return companySuggestionIndex.suggest(prefix, size);
+    }
+
+    @Transactional(readOnly = true)
     public List<String> getAllIndustries() {
         return companyRepository.findAllIndustries();
     }
@@ -98,6 +145,7 @@ public class CompanyService {
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new ResourceNotFoundException("Company not found with id: " + companyId));
 
+        boolean renamed = !company.getName().equals(companyDto.getName());
         company.setName(companyDto.getName());
         company.setDescription(companyDto.getDescription());
         company.setWebsite(companyDto.getWebsite());
@@ -105,17 +153,23 @@ public class CompanyService {
         company.setLocation(companyDto.getLocation());
 
         Company updatedCompany = companyRepository.save(company);
+        if (renamed) {
+            outboxRepository.enqueue(DenormalizationOutboxRepository.COMPANY, updatedCompany.getId());
+        }
+        companySuggestionIndex.put(updatedCompany.getId(), updatedCompany.getName(), updatedCompany.getIndustry());
         return mapToDto(updatedCompany);
     }
 
     public void deleteCompany(Long companyId) {
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new ResourceNotFoundException("Company not found with id: " + companyId));
+        userApplicationStatsRepository.subtractApplicationsOfCompany(companyId);
         companyRepository.delete(company);
+        companySuggestionIndex.remove(companyId);
     }
 
     private UserPrincipal getUserPrincipal() {
-        return (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        return SecurityUtils.getCurrentUser();
     }
 
     private CompanyDto mapToDto(Company company) {
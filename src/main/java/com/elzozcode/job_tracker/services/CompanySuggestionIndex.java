@@ -0,0 +1,152 @@
+package com.elzozcode.job_tracker.services;
+
+import com.elzozcode.job_tracker.dtos.response.CompanySuggestion;
+import com.elzozcode.job_tracker.repositories.CompanyRepository;
+import com.elzozcode.job_tracker.repositories.projections.CompanySuggestionSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory prefix index over company names, the words inside them and industries, used by
+ * the company picker. Terms live in a sorted concurrent map, so a prefix lookup is a range scan
+ * that stops after the requested number of suggestions. Writes are applied after the surrounding
+ * transaction commits.
+ */
+@Slf4j
+@Component
+public class CompanySuggestionIndex {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[\\s\\p{Punct}]+");
+
+    private final CompanyRepository companyRepository;
+    private final ConcurrentSkipListMap<String, CompanySuggestion> terms = new ConcurrentSkipListMap<>();
+
+    // Guarded by this; only touched by writers.
+    private final Map<Long, IndexedCompany> companies = new HashMap<>();
+    private final Map<String, Integer> industryCounts = new HashMap<>();
+
+    public CompanySuggestionIndex(CompanyRepository companyRepository) {
+        this.companyRepository = companyRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        List<CompanySuggestionSource> sources = companyRepository.findAllSuggestionSources();
+        sources.forEach(source -> index(source.getId(), source.getName(), source.getIndustry()));
+        log.info("Company suggestion index warmed up with {} companies and {} terms", sources.size(), terms.size());
+    }
+
+    public List<CompanySuggestion> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        Set<CompanySuggestion> results = new LinkedHashSet<>();
+        for (CompanySuggestion suggestion : terms.subMap(normalized, normalized + Character.MAX_VALUE).values()) {
+            results.add(suggestion);
+            if (results.size() == limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(results);
+    }
+
+    public void put(Long companyId, String name, String industry) {
+        afterCommit(() -> index(companyId, name, industry));
+    }
+
+    public void remove(Long companyId) {
+        afterCommit(() -> unindex(companyId));
+    }
+
+    private synchronized void index(Long companyId, String name, String industry) {
+        unindex(companyId);
+
+        List<String> keys = new ArrayList<>();
+        String normalizedName = normalize(name);
+
+        if (!normalizedName.isEmpty()) {
+            CompanySuggestion suggestion = new CompanySuggestion(name.trim(), CompanySuggestion.COMPANY, companyId);
+            String companyKey = KEY_SEPARATOR + "c" + companyId;
+
+            keys.add(normalizedName + companyKey);
+            String[] words = WORD_SEPARATOR.split(normalizedName);
+            for (int i = 1; i < words.length; i++) {
+                if (!words[i].isEmpty()) {
+                    keys.add(words[i] + companyKey);
+                }
+            }
+            keys.forEach(key -> terms.put(key, suggestion));
+        }
+
+        String normalizedIndustry = normalize(industry);
+        if (!normalizedIndustry.isEmpty()) {
+            int count = industryCounts.merge(normalizedIndustry, 1, Integer::sum);
+            if (count == 1) {
+                terms.put(industryKey(normalizedIndustry),
+                        new CompanySuggestion(industry.trim(), CompanySuggestion.INDUSTRY, null));
+            }
+        }
+
+        companies.put(companyId, new IndexedCompany(keys, normalizedIndustry));
+    }
+
+    private synchronized void unindex(Long companyId) {
+        IndexedCompany previous = companies.remove(companyId);
+        if (previous == null) {
+            return;
+        }
+
+        previous.keys().forEach(terms::remove);
+
+        if (!previous.industry().isEmpty()) {
+            Integer remaining = industryCounts.computeIfPresent(previous.industry(), (key, count) -> count > 1 ? count - 1 : null);
+            if (remaining == null) {
+                terms.remove(industryKey(previous.industry()));
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static String industryKey(String normalizedIndustry) {
+        return normalizedIndustry + KEY_SEPARATOR + "i";
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record IndexedCompany(List<String> keys, String industry) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.elzozcode.job_tracker.services;
+
+import com.elzozcode.job_tracker.dtos.response.HiringFunnelResponse;
+import com.elzozcode.job_tracker.dtos.response.HiringFunnelResponse.StageConversion;
+import com.elzozcode.job_tracker.entity.Job;
+import com.elzozcode.job_tracker.entity.enums.ApplicationStatus;
+import com.elzozcode.job_tracker.exception.ResourceNotFoundException;
+import com.elzozcode.job_tracker.exception.UnauthorizedException;
+import com.elzozcode.job_tracker.repositories.HiringFunnelRepository;
+import com.elzozcode.job_tracker.repositories.HiringFunnelRepository.InterviewTiming;
+import com.elzozcode.job_tracker.repositories.JobRepository;
+import com.elzozcode.job_tracker.utils.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hiring funnel of a company's jobs. Only the current status of an application is stored, so an
+ * application counts as having reached every stage up to its current one; rejected and withdrawn
+ * applications count towards the first stage only.
+ */
+@Service
+@RequiredArgsConstructor
+public class HiringFunnelService {
+
+    static final List<ApplicationStatus> STAGES = List.of(
+            ApplicationStatus.APPLIED,
+            ApplicationStatus.PHONE_SCREEN,
+            ApplicationStatus.INTERVIEW,
+            ApplicationStatus.OFFER,
+            ApplicationStatus.ACCEPTED);
+
+    private final HiringFunnelRepository hiringFunnelRepository;
+    private final JobRepository jobRepository;
+
+    @Transactional(readOnly = true)
+    public HiringFunnelResponse getJobFunnel(Long jobId) {
+        Long companyId = SecurityUtils.getCurrentCompanyId();
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
+
+        if (!job.getCompany().getId().equals(companyId)) {
+            throw new UnauthorizedException("You are not authorized to view the funnel for this job.");
+        }
+
+        HiringFunnelResponse funnel = toFunnel(
+                hiringFunnelRepository.findCountsByJobId(jobId),
+                hiringFunnelRepository.findInterviewTimingByJobId(jobId));
+        funnel.setCompanyId(companyId);
+        funnel.setJobId(jobId);
+        return funnel;
+    }
+
+    @Transactional(readOnly = true)
+    public HiringFunnelResponse getCompanyFunnel() {
+        Long companyId = SecurityUtils.getCurrentCompanyId();
+
+        HiringFunnelResponse funnel = toFunnel(
+                hiringFunnelRepository.findCountsByCompanyId(companyId),
+                hiringFunnelRepository.findInterviewTimingByCompanyId(companyId));
+        funnel.setCompanyId(companyId);
+        return funnel;
+    }
+
+    static HiringFunnelResponse toFunnel(Map<ApplicationStatus, Long> counts, InterviewTiming timing) {
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+
+        // reached[i]: applications whose current status is stage i or a later stage
+        long[] reached = new long[STAGES.size()];
+        reached[0] = total;
+        for (int i = STAGES.size() - 1; i > 0; i--) {
+            reached[i] = counts.getOrDefault(STAGES.get(i), 0L) + (i + 1 < STAGES.size() ? reached[i + 1] : 0);
+        }
+
+        List<StageConversion> conversions = new ArrayList<>();
+        for (int i = 1; i < STAGES.size(); i++) {
+            conversions.add(new StageConversion(
+                    STAGES.get(i - 1), STAGES.get(i), reached[i], ratio(reached[i], reached[i - 1])));
+        }
+
+        return HiringFunnelResponse.builder()
+                .total(total)
+                .byStatus(counts)
+                .conversions(conversions)
+                .interviewed(timing.interviewed())
+                .medianDaysToFirstInterview(timing.medianDays() != null ? round(timing.medianDays(), 10) : null)
+                .build();
+    }
+
+    private static Double ratio(long part, long whole) {
+        return whole == 0 ? null : round((double) part / whole, 10_000);
+    }
+
+    private static double round(double value, int scale) {
+        return Math.round(value * scale) / (double) scale;
+    }
+}
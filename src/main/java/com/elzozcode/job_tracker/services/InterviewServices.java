@@ -2,21 +2,28 @@ package com.elzozcode.job_tracker.services;
 
 import com.elzozcode.job_tracker.dtos.InterviewDto;
 import com.elzozcode.job_tracker.dtos.ScheduleInterviewDto;
+import com.elzozcode.job_tracker.dtos.response.CursorPage;
 import com.elzozcode.job_tracker.dtos.response.InterviewResponse;
 import com.elzozcode.job_tracker.entity.Interview;
 import com.elzozcode.job_tracker.entity.JobApplication;
 import com.elzozcode.job_tracker.entity.enums.InterviewStatus;
+import com.elzozcode.job_tracker.exception.InvalidRequestException;
 import com.elzozcode.job_tracker.exception.ResourceNotFoundException;
 import com.elzozcode.job_tracker.exception.UnauthorizedException;
 import com.elzozcode.job_tracker.repositories.InterviewRepository;
 import com.elzozcode.job_tracker.repositories.JobApplicationRepository;
+import com.elzozcode.job_tracker.repositories.projections.InterviewView;
 import com.elzozcode.job_tracker.security.UserPrincipal;
+import com.elzozcode.job_tracker.utils.CursorCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 @Service
@@ -27,6 +34,11 @@ public class InterviewServices {
     private final InterviewRepository interviewRepository;
     private final JobApplicationRepository jobApplicationRepository;
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final LocalDateTime FAR_PAST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime FAR_FUTURE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     public InterviewResponse scheduleInterview(ScheduleInterviewDto request) {
         UserPrincipal userPrincipal = getUserPrincipal();
         JobApplication jobApp = jobApplicationRepository.findById(request.getJobApplicationId())
@@ -61,51 +73,99 @@ public class InterviewServices {
         return mapToResponse(saved);
     }
 
+    @Transactional(readOnly = true)
     public List<InterviewResponse> getAllByApplicationId(Long jobApplicationId) {
         UserPrincipal userPrincipal = getUserPrincipal();
-        JobApplication jobApp = jobApplicationRepository.findById(jobApplicationId)
-                .orElseThrow(() -> new ResourceNotFoundException("Job application not found"));
 
-        if (userPrincipal.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_USER"))) {
-            checkUserOwnership(jobApp.getUser().getId());
-        } else {
-            checkCompanyOwnership(jobApp.getJob().getCompany().getId());
+        List<InterviewView> interviews = userPrincipal.isUser()
+                ? interviewRepository.findViewsByJobApplicationIdAndUserId(jobApplicationId, userPrincipal.getUserId())
+                : interviewRepository.findViewsByJobApplicationIdAndCompanyId(jobApplicationId, userPrincipal.getUserId());
+
+        // Ownership is part of the query; only an empty result needs the application to tell 404 from 403.
+        if (interviews.isEmpty()) {
+            JobApplication jobApp = jobApplicationRepository.findById(jobApplicationId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Job application not found"));
+
+            if (userPrincipal.isUser()) {
+                checkUserOwnership(jobApp.getUser().getId());
+            } else {
+                checkCompanyOwnership(jobApp.getJob().getCompany().getId());
+            }
         }
 
-        return interviewRepository.findAllByJobApplicationId(jobApplicationId).stream().map(this::mapToResponse).toList();
+        return interviews.stream().map(this::mapToResponse).toList();
     }
 
+    @Transactional(readOnly = true)
     public List<InterviewResponse> getAllByUserId() {
         UserPrincipal userPrincipal = getUserPrincipal();
-        return interviewRepository.findAllByJobApplicationUserId(userPrincipal.getUserId()).stream().map(this::mapToResponse).toList();
+        return interviewRepository.findViewsByUserId(userPrincipal.getUserId()).stream().map(this::mapToResponse).toList();
     }
 
+    @Transactional(readOnly = true)
     public List<InterviewResponse> getAllByCompanyId() {
         UserPrincipal userPrincipal = getUserPrincipal();
-        return interviewRepository.findAllByJobApplication_Job_Company_Id(userPrincipal.getUserId()).stream().map(this::mapToResponse).toList();
+        return interviewRepository.findViewsByCompanyId(userPrincipal.getUserId()).stream().map(this::mapToResponse).toList();
     }
 
-    public List<InterviewResponse> getUpcomingInterviews() {
+    @Transactional(readOnly = true)
+    public CursorPage<InterviewResponse> getUpcomingInterviews(
+            LocalDateTime from,
+            LocalDateTime to,
+            String cursor,
+            Integer limit
+    ) {
         UserPrincipal userPrincipal = getUserPrincipal();
-        return interviewRepository.findAllByJobApplicationUserId(userPrincipal.getUserId()).stream()
-                .filter(interview -> interview.getInterviewDate().isAfter(java.time.LocalDateTime.now()))
-                .map(this::mapToResponse)
-                .toList();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowStart = from == null || from.isBefore(now) ? now : from;
+        LocalDateTime windowEnd = to == null ? FAR_FUTURE : to;
+        int pageSize = pageSize(limit);
+
+        LocalDateTime afterDate = windowStart;
+        long afterId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            CursorCodec.Cursor position = CursorCodec.decode(cursor);
+            afterDate = parseCursorDate(position.key());
+            afterId = position.id();
+        }
+
+        List<InterviewView> interviews = interviewRepository.findViewsByUserIdInWindowAscending(
+                userPrincipal.getUserId(), windowStart, windowEnd, afterDate, afterId, Limit.of(pageSize + 1));
+        return toPage(interviews, pageSize);
     }
 
-    public List<InterviewResponse> getCompletedInterviews() {
+    @Transactional(readOnly = true)
+    public CursorPage<InterviewResponse> getCompletedInterviews(
+            LocalDateTime from,
+            LocalDateTime to,
+            String cursor,
+            Integer limit
+    ) {
         UserPrincipal userPrincipal = getUserPrincipal();
-        return interviewRepository.findAllByJobApplicationUserId(userPrincipal.getUserId()).stream()
-                .filter(interview -> interview.getInterviewDate().isBefore(java.time.LocalDateTime.now()))
-                .map(this::mapToResponse)
-                .toList();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowStart = from == null ? FAR_PAST : from;
+        LocalDateTime windowEnd = to == null || to.isAfter(now) ? now : to;
+        int pageSize = pageSize(limit);
+
+        LocalDateTime beforeDate = windowEnd;
+        long beforeId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            CursorCodec.Cursor position = CursorCodec.decode(cursor);
+            beforeDate = parseCursorDate(position.key());
+            beforeId = position.id();
+        }
+
+        List<InterviewView> interviews = interviewRepository.findViewsByUserIdInWindowDescending(
+                userPrincipal.getUserId(), windowStart, windowEnd, beforeDate, beforeId, Limit.of(pageSize + 1));
+        return toPage(interviews, pageSize);
     }
 
+    @Transactional(readOnly = true)
     public InterviewResponse getInterviewById(Long id) {
         UserPrincipal userPrincipal = getUserPrincipal();
         Interview interview = interviewRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Interview not found"));
 
-        if (userPrincipal.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_USER"))) {
+        if (userPrincipal.isUser()) {
             checkUserOwnership(interview.getJobApplication().getUser().getId());
         } else {
             checkCompanyOwnership(interview.getJobApplication().getJob().getCompany().getId());
@@ -137,6 +197,31 @@ public class InterviewServices {
         interviewRepository.delete(interview);
     }
 
+    private CursorPage<InterviewResponse> toPage(List<InterviewView> interviews, int pageSize) {
+        boolean hasMore = interviews.size() > pageSize;
+        List<InterviewView> page = hasMore ? interviews.subList(0, pageSize) : interviews;
+
+        String nextCursor = null;
+        if (hasMore) {
+            InterviewView last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(last.interviewDate().toString(), last.id());
+        }
+
+        return new CursorPage<>(page.stream().map(this::mapToResponse).toList(), nextCursor, hasMore);
+    }
+
+    private static int pageSize(Integer limit) {
+        return limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    private static LocalDateTime parseCursorDate(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
     private UserPrincipal getUserPrincipal() {
         return (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
     }
@@ -175,6 +260,26 @@ public class InterviewServices {
                 .build();
     }
 
+    private InterviewResponse mapToResponse(InterviewView view) {
+        return InterviewResponse.builder()
+                .id(view.id())
+                .jobApplicationId(view.jobApplicationId())
+                .interviewDate(LocalDate.from(view.interviewDate()))
+                .interviewType(view.interviewType())
+                .interviewStatus(view.status())
+                .location(view.location())
+                .interviewName(view.interviewerName())
+                .duration(view.duration() != null ? view.duration() : 0)
+                .notes(view.notes())
+                .feedback(view.feedback())
+                .interviewResult(view.result())
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .companyName(view.companyName())
+                .jobTitle(view.jobTitle())
+                .build();
+    }
+
     private Interview buildOrUpdateInterview(Interview interview, InterviewDto request, JobApplication jobApplication) {
         if (interview == null) {
             interview = new Interview();
@@ -0,0 +1,85 @@
+package com.elzozcode.job_tracker.services;
+
+import com.elzozcode.job_tracker.repositories.DenormalizationOutboxRepository;
+import com.elzozcode.job_tracker.repositories.DenormalizationOutboxRepository.OutboxEvent;
+import com.elzozcode.job_tracker.repositories.JobApplicationCopyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Drains the denormalization outbox into {@code job_applications}. All edits claimed in one batch
+ * collapse into a single refresh per job or company, and the refresh rewrites stale rows in short
+ * transactions of at most {@code chunk-size} rows, so a popular job never holds a long lock.
+ * Refreshes are idempotent, which makes redelivery after a crash or an expired lease harmless.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobApplicationCopyPropagator {
+
+    private final DenormalizationOutboxRepository outboxRepository;
+    private final JobApplicationCopyRepository copyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${denormalization.propagation.batch-size:500}")
+    private int batchSize;
+
+    @Value("${denormalization.propagation.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${denormalization.propagation.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Scheduled(fixedDelayString = "${denormalization.propagation.interval-ms:2000}")
+    public void propagate() {
+        // A full batch means more events are waiting
+        int handled;
+        do {
+            handled = propagateBatch();
+        } while (handled == batchSize);
+    }
+
+    /**
+     * @return the number of outbox events handled
+     */
+    int propagateBatch() {
+        List<OutboxEvent> events = transactionTemplate.execute(
+                status -> outboxRepository.claim(batchSize, Duration.ofSeconds(leaseSeconds)));
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> jobIds = new HashSet<>();
+        Set<Long> companyIds = new HashSet<>();
+        for (OutboxEvent event : events) {
+            if (DenormalizationOutboxRepository.COMPANY.equals(event.aggregateType())) {
+                companyIds.add(event.aggregateId());
+            } else {
+                jobIds.add(event.aggregateId());
+            }
+        }
+
+        long rewritten = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> copyRepository.refreshChunk(jobIds, companyIds, chunkSize));
+            rewritten += chunk;
+        } while (chunk == chunkSize);
+
+        transactionTemplate.executeWithoutResult(
+                status -> outboxRepository.delete(events.stream().map(OutboxEvent::id).toList()));
+
+        log.debug("Propagated {} outbox events ({} jobs, {} companies) to {} applications",
+                events.size(), jobIds.size(), companyIds.size(), rewritten);
+        return events.size();
+    }
+}
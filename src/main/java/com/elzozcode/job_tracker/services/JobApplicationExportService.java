@@ -0,0 +1,126 @@
+package com.elzozcode.job_tracker.services;
+
+import com.elzozcode.job_tracker.entity.Job;
+import com.elzozcode.job_tracker.exception.ResourceNotFoundException;
+import com.elzozcode.job_tracker.exception.UnauthorizedException;
+import com.elzozcode.job_tracker.repositories.JobApplicationExportRepository;
+import com.elzozcode.job_tracker.repositories.JobRepository;
+import com.elzozcode.job_tracker.repositories.projections.JobApplicationView;
+import com.elzozcode.job_tracker.utils.CsvWriter;
+import com.elzozcode.job_tracker.utils.SecurityUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Streams job applications as CSV or NDJSON. Ownership is checked on the request thread;
+ * the returned body then reads rows through a forward-only cursor while writing them out.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobApplicationExportService {
+
+    private static final String[] CSV_HEADER = {
+            "id", "userId", "companyName", "jobTitle", "jobUrl", "applicationDate", "status",
+            "location", "salaryRange", "jobType", "workMode", "notes", "companyWebsite",
+            "contactPerson", "contactEmail", "createdAt", "updatedAt"
+    };
+
+    private final JobApplicationExportRepository exportRepository;
+    private final JobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Getter
+    public enum Format {
+        CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv"),
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+    }
+
+    public StreamingResponseBody exportForCurrentUser(Format format) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        return out -> stream(out, format, consumer -> exportRepository.streamByUserId(userId, consumer));
+    }
+
+    @Transactional(readOnly = true)
+    public StreamingResponseBody exportForJob(Long jobId, Format format) {
+        Long companyId = SecurityUtils.getCurrentCompanyId();
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
+
+        if (!job.getCompany().getId().equals(companyId)) {
+            throw new UnauthorizedException("You are not authorized to view applications for this job.");
+        }
+
+        return out -> stream(out, format, consumer -> exportRepository.streamByJobId(jobId, consumer));
+    }
+
+    private void stream(OutputStream out, Format format, Consumer<Consumer<JobApplicationView>> source)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        Consumer<JobApplicationView> rowWriter = format == Format.CSV ? csvRows(writer) : ndjsonRows(writer);
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager(), transactionTemplate);
+        readOnly.setReadOnly(true);
+
+        try {
+            readOnly.executeWithoutResult(status -> source.accept(rowWriter));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private static Consumer<JobApplicationView> csvRows(Writer writer) throws IOException {
+        CsvWriter csv = new CsvWriter(writer);
+        csv.writeRecord((Object[]) CSV_HEADER);
+
+        return view -> {
+            try {
+                csv.writeRecord(
+                        view.id(), view.userId(), view.companyName(), view.jobTitle(), view.jobUrl(),
+                        view.applicationDate(), view.status(), view.location(), view.salaryRange(),
+                        view.jobType(), view.workMode(), view.notes(), view.companyWebsite(),
+                        view.contactPerson(), view.contactEmail(), view.createdAt(), view.updatedAt());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    private Consumer<JobApplicationView> ndjsonRows(Writer writer) {
+        ObjectWriter json = objectMapper.writerFor(JobApplicationView.class);
+
+        return view -> {
+            try {
+                writer.write(json.writeValueAsString(view));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
@@ -2,17 +2,23 @@ package com.elzozcode.job_tracker.services;
 
 import com.elzozcode.job_tracker.dtos.CreateJobApplicationDto;
 import com.elzozcode.job_tracker.dtos.JobApplicationDto;
+import com.elzozcode.job_tracker.dtos.response.ApplicationStatsResponse;
 import com.elzozcode.job_tracker.dtos.response.JobApplicationResponse;
 import com.elzozcode.job_tracker.entity.JobApplication;
 import com.elzozcode.job_tracker.entity.User;
 import com.elzozcode.job_tracker.entity.Job;
+import com.elzozcode.job_tracker.entity.enums.ApplicationStatus;
 import com.elzozcode.job_tracker.exception.InvalidCredentialsException;
 import com.elzozcode.job_tracker.exception.ResourceNotFoundException;
 import com.elzozcode.job_tracker.exception.UnauthorizedException;
 import com.elzozcode.job_tracker.repositories.UserRepository;
 import com.elzozcode.job_tracker.repositories.JobApplicationRepository;
 import com.elzozcode.job_tracker.repositories.JobRepository;
+import com.elzozcode.job_tracker.repositories.UserApplicationStatsRepository;
+import com.elzozcode.job_tracker.repositories.projections.CollectionFingerprint;
+import com.elzozcode.job_tracker.repositories.projections.JobApplicationView;
 import com.elzozcode.job_tracker.security.UserPrincipal;
+import com.elzozcode.job_tracker.utils.ETags;
 import com.elzozcode.job_tracker.utils.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.stream.Collectors;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -30,6 +37,7 @@ public class JobApplicationService {
     private final JobApplicationRepository jobApplicationRepository;
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
+    private final UserApplicationStatsRepository userApplicationStatsRepository;
 
     public JobApplicationResponse createApplicationFromJob(CreateJobApplicationDto request) {
         UserPrincipal userPrincipal = getUserPrincipal();
@@ -56,6 +64,7 @@ public class JobApplicationService {
                 .build();
 
         JobApplication saved = jobApplicationRepository.save(jobApplication);
+        countStatusChange(currentUser.getId(), null, saved.getStatus());
         return mapToResponse(saved);
     }
 
@@ -68,18 +77,32 @@ public class JobApplicationService {
                 buildOrUpdateJobApplication(null, request, currentUser);
 
         JobApplication saved = jobApplicationRepository.save(jobApplication);
+        countStatusChange(currentUser.getId(), null, saved.getStatus());
         return mapToResponse(saved);
     }
 
+    /**
+     * Strong ETag of the current user's application list, computed from an aggregate
+     * over the user's rows rather than the rows themselves.
+     */
+    @Transactional(readOnly = true)
+    public String getAllByUserIdETag() {
+        Long userId = getUserPrincipal().getUserId();
+        CollectionFingerprint fingerprint = jobApplicationRepository.findFingerprintByUserId(userId);
+        return ETags.strong("u" + userId, fingerprint.count(), fingerprint.lastUpdated(), fingerprint.idSum());
+    }
+
+    @Transactional(readOnly = true)
     public List<JobApplicationResponse> getAllByUserId() {
         UserPrincipal userPrincipal = getUserPrincipal();
         return jobApplicationRepository
-                .findAllByUserId(userPrincipal.getUserId())
+                .findViewsByUserId(userPrincipal.getUserId())
                 .stream()
                 .map(this::mapToResponse)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public JobApplicationResponse getJobApplicationById(Long id) {
         UserPrincipal userPrincipal = getUserPrincipal();
         JobApplication jobApplication = jobApplicationRepository.findById(id)
@@ -90,16 +113,23 @@ public class JobApplicationService {
         return mapToResponse(jobApplication);
     }
 
+    @Transactional(readOnly = true)
     public List<JobApplicationResponse> getJobApplicationsByJobId(Long jobId) {
         UserPrincipal userPrincipal = getUserPrincipal();
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
+        List<JobApplicationView> applications =
+                jobApplicationRepository.findViewsByJobIdAndCompanyId(jobId, userPrincipal.getCompanyId());
+
+        // Ownership is part of the query; only an empty result needs the job to tell 404 from 403.
+        if (applications.isEmpty()) {
+            Job job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
 
-        if (!job.getCompany().getId().equals(userPrincipal.getCompanyId())) {
-            throw new UnauthorizedException("You are not authorized to view applications for this job.");
+            if (!job.getCompany().getId().equals(userPrincipal.getCompanyId())) {
+                throw new UnauthorizedException("You are not authorized to view applications for this job.");
+            }
         }
 
-        return jobApplicationRepository.findAllByJobId(jobId)
+        return applications
                 .stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
@@ -110,30 +140,56 @@ public class JobApplicationService {
         User currentUser = userRepository.findById(userPrincipal.getUserId())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         JobApplication existingJob = jobApplicationRepository
-                .findById(id)
+                .findByIdForUpdate(id)
                 .orElseThrow(() -> new InvalidCredentialsException("Job application not found"));
 
         if (!existingJob.getUser().getId().equals(userPrincipal.getUserId())) {
             throw new UnauthorizedException("You are not authorized to update this job application.");
         }
 
+        ApplicationStatus previousStatus = existingJob.getStatus();
         JobApplication updated =
                 buildOrUpdateJobApplication(existingJob, request, currentUser);
 
         JobApplication saved = jobApplicationRepository.save(updated);
+        countStatusChange(currentUser.getId(), previousStatus, saved.getStatus());
         return mapToResponse(saved);
     }
 
     public void delete(long id) {
         UserPrincipal userPrincipal = getUserPrincipal();
         JobApplication jobApplication =
-                jobApplicationRepository.findById(id)
+                jobApplicationRepository.findByIdForUpdate(id)
                         .orElseThrow(() -> new ResourceNotFoundException("Job application not found"));
 
         if (!jobApplication.getUser().getId().equals(userPrincipal.getUserId())) {
             throw new UnauthorizedException("You are not authorized to delete this job application.");
         }
         jobApplicationRepository.delete(jobApplication);
+        countStatusChange(userPrincipal.getUserId(), jobApplication.getStatus(), null);
+    }
+
+    @Transactional(readOnly = true)
+    public ApplicationStatsResponse getStats() {
+        Map<ApplicationStatus, Long> counts =
+                userApplicationStatsRepository.findCountsByUserId(getUserPrincipal().getUserId());
+
+        return ApplicationStatsResponse.builder()
+                .total(counts.values().stream().mapToLong(Long::longValue).sum())
+                .byStatus(counts)
+                .build();
+    }
+
+    private void countStatusChange(Long userId, ApplicationStatus from, ApplicationStatus to) {
+        if (from == to) {
+            return;
+        }
+        if (from != null) {
+            userApplicationStatsRepository.increment(userId, from, -1);
+        }
+        if (to != null) {
+            userApplicationStatsRepository.increment(userId, to, 1);
+        }
     }
 
     private UserPrincipal getUserPrincipal() {
@@ -190,6 +246,29 @@ public class JobApplicationService {
                 .updatedAt(savedJobApplication.getUpdatedAt())
                 .build();
     }
+
+    private JobApplicationResponse mapToResponse(JobApplicationView view) {
+        return JobApplicationResponse
+                .builder()
+                .id(view.id())
+                .userId(view.userId())
+                .companyName(view.companyName())
+                .jobTitle(view.jobTitle())
+                .jobUrl(view.jobUrl())
+                .applicationDate(view.applicationDate())
+                .status(view.status())
+                .location(view.location())
+                .salaryRange(view.salaryRange())
+                .jobType(view.jobType())
+                .workMode(view.workMode())
+                .notes(view.notes())
+                .companyWebsite(view.companyWebsite())
+                .contactPerson(view.contactPerson())
+                .contactEmail(view.contactEmail())
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .build();
+    }
 }
 
 
@@ -0,0 +1,307 @@
+package com.elzozcode.job_tracker.services;
+
+import com.elzozcode.job_tracker.dtos.JobFeedItem;
+import com.elzozcode.job_tracker.dtos.response.JobFeedSyncResponse;
+import com.elzozcode.job_tracker.entity.Job;
+import com.elzozcode.job_tracker.entity.enums.JobType;
+import com.elzozcode.job_tracker.entity.enums.WorkMode;
+import com.elzozcode.job_tracker.exception.InvalidRequestException;
+import com.elzozcode.job_tracker.repositories.DenormalizationOutboxRepository;
+import com.elzozcode.job_tracker.repositories.JobFeedRepository;
+import com.elzozcode.job_tracker.repositories.JobFeedRepository.ExistingJob;
+import com.elzozcode.job_tracker.repositories.JobFeedRepository.FeedRow;
+import com.elzozcode.job_tracker.utils.CsvReader;
+import com.elzozcode.job_tracker.utils.SecurityUtils;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Synchronises a company's postings with a full feed of its jobs. Postings are matched by
+ * {@code jobUrl}; only new rows and rows whose content hash changed are written, and active
+ * postings that no longer appear in the feed are deactivated. When several postings share a
+ * {@code jobUrl}, one is kept and the other active ones are deactivated.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobFeedService {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final TypeReference<Map<String, Object>> RECORD_TYPE = new TypeReference<>() {
+    };
+    private static final int MAX_REPORTED_ERRORS = 50;
+    private static final char FIELD_SEPARATOR = '\u001f';
+
+    private final JobFeedRepository jobFeedRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final DenormalizationOutboxRepository outboxRepository;
+
+    @Value("${jobs.feed.max-records:20000}")
+    private int maxRecords;
+
+    /**
+     * The feed is read and validated before the transaction starts, so a slow upload
+     * does not hold a database connection.
+     */
+    public JobFeedSyncResponse sync(InputStream body, MediaType contentType) {
+        Long companyId = SecurityUtils.getCurrentCompanyId();
+        ParsedFeed feed = parse(body, contentType);
+        SyncResult result = transactionTemplate.execute(status -> apply(companyId, feed));
+
+        // JDBC writes bypass Hibernate, so cached copies of the touched jobs are dropped after commit
+        Cache cache = entityManagerFactory.getCache();
+        result.changedJobIds().forEach(jobId -> cache.evict(Job.class, jobId));
+
+        return result.response();
+    }
+
+    private SyncResult apply(Long companyId, ParsedFeed feed) {
+        Map<String, ExistingJob> existing = new HashMap<>();
+        List<Long> duplicates = new ArrayList<>();
+        for (ExistingJob job : jobFeedRepository.findExistingByCompanyId(companyId)) {
+            // Active rows come first, so the posting kept for a URL is the live one
+            if (existing.putIfAbsent(job.jobUrl(), job) != null && job.active()) {
+                duplicates.add(job.jobId());
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            log.warn("Job feed sync for company {}: deactivating {} postings that share a jobUrl", companyId, duplicates.size());
+        }
+
+        List<FeedRow> inserts = new ArrayList<>();
+        List<FeedRow> updates = new ArrayList<>();
+        int unchanged = 0;
+
+        for (FeedRow row : feed.rows().values()) {
+            ExistingJob current = existing.get(row.item().getJobUrl());
+            if (current == null) {
+                inserts.add(row);
+            } else if (!current.active() || !row.contentHash().equals(current.contentHash())) {
+                updates.add(new FeedRow(current.jobId(), row.item(), row.contentHash()));
+            } else {
+                unchanged++;
+            }
+        }
+
+        List<Long> missing = new ArrayList<>(duplicates);
+        existing.values().stream()
+                .filter(job -> job.active() && !feed.rows().containsKey(job.jobUrl()))
+                .forEach(job -> missing.add(job.jobId()));
+
+        jobFeedRepository.insertAll(companyId, inserts);
+        jobFeedRepository.updateAll(updates);
+        outboxRepository.enqueueJobs(updates.stream().map(FeedRow::jobId).toList());
+        int deactivated = jobFeedRepository.deactivate(companyId, missing);
+
+        log.info("Job feed sync for company {}: {} received, {} inserted, {} updated, {} unchanged, {} deactivated, {} skipped",
+                companyId, feed.received(), inserts.size(), updates.size(), unchanged, deactivated, feed.skipped());
+
+        List<Long> changedJobIds = new ArrayList<>(missing);
+        updates.forEach(row -> changedJobIds.add(row.jobId()));
+
+        JobFeedSyncResponse response = JobFeedSyncResponse.builder()
+                .received(feed.received())
+                .inserted(inserts.size())
+                .updated(updates.size())
+                .unchanged(unchanged)
+                .deactivated(deactivated)
+                .skipped(feed.skipped())
+                .errors(feed.errors())
+                .build();
+        return new SyncResult(response, changedJobIds);
+    }
+
+    private ParsedFeed parse(InputStream body, MediaType contentType) {
+        FeedCollector collector = new FeedCollector();
+
+        if (contentType != null && TEXT_CSV.includes(contentType)) {
+            Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+            try {
+                CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(body, charset)));
+                if (!reader.getHeader().contains("jobUrl")) {
+                    throw new InvalidRequestException("CSV feed header must include a jobUrl column");
+                }
+                Map<String, String> record;
+                while ((record = reader.next()) != null) {
+                    collector.accept(record);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("Malformed CSV feed: " + e.getMessage());
+            }
+        } else {
+            // Handles both a top-level JSON array and newline-delimited JSON records
+            try (MappingIterator<Map<String, Object>> records = objectMapper.readerFor(RECORD_TYPE).readValues(body)) {
+                while (records.hasNextValue()) {
+                    collector.accept(records.nextValue());
+                }
+            } catch (JacksonException e) {
+                throw new InvalidRequestException("Malformed JSON feed: " + e.getOriginalMessage());
+            }
+        }
+
+        return new ParsedFeed(collector.rows, collector.received, collector.skipped, collector.errors);
+    }
+
+    private final class FeedCollector {
+
+        private final Map<String, FeedRow> rows = new LinkedHashMap<>();
+        private final List<String> errors = new ArrayList<>();
+        private int received;
+        private int skipped;
+
+        void accept(Map<String, ?> record) {
+            received++;
+            if (received > maxRecords) {
+                throw new InvalidRequestException("Feed exceeds the maximum of " + maxRecords + " records");
+            }
+
+            JobFeedItem item;
+            try {
+                item = toItem(record);
+            } catch (RuntimeException e) {
+                skipped++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add("Record " + received + ": " + e.getMessage());
+                }
+                return;
+            }
+
+            // A later record for the same URL replaces the earlier one
+            rows.remove(item.getJobUrl());
+            rows.put(item.getJobUrl(), new FeedRow(null, item, contentHash(item)));
+        }
+    }
+
+    private record SyncResult(JobFeedSyncResponse response, List<Long> changedJobIds) {
+    }
+
+    private record ParsedFeed(Map<String, FeedRow> rows, int received, int skipped, List<String> errors) {
+    }
+
+    static JobFeedItem toItem(Map<String, ?> record) {
+        JobFeedItem item = JobFeedItem.builder()
+                .jobUrl(text(record, "jobUrl", 500))
+                .jobTitle(text(record, "jobTitle", 150))
+                .description(text(record, "description", Integer.MAX_VALUE))
+                .requirements(text(record, "requirements", Integer.MAX_VALUE))
+                .location(text(record, "location", 100))
+                .jobType(enumValue(record, "jobType", JobType.class))
+                .workMode(enumValue(record, "workMode", WorkMode.class))
+                .salaryMin(decimal(record, "salaryMin"))
+                .salaryMax(decimal(record, "salaryMax"))
+                .currency(text(record, "currency", 10))
+                .postedDate(date(record, "postedDate"))
+                .deadlineDate(date(record, "deadlineDate"))
+                .build();
+
+        if (item.getJobUrl() == null) {
+            throw new IllegalArgumentException("jobUrl is required");
+        }
+        if (item.getJobTitle() == null) {
+            throw new IllegalArgumentException("jobTitle is required");
+        }
+        return item;
+    }
+
+    static String contentHash(JobFeedItem item) {
+        StringBuilder content = new StringBuilder();
+        for (Object value : new Object[]{
+                item.getJobTitle(), item.getDescription(), item.getRequirements(), item.getLocation(),
+                item.getJobType(), item.getWorkMode(), plain(item.getSalaryMin()), plain(item.getSalaryMax()),
+                item.getCurrency(), item.getPostedDate(), item.getDeadlineDate()}) {
+            content.append(value != null ? value : "").append(FIELD_SEPARATOR);
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String text(Map<String, ?> record, String field, int maxLength) {
+        Object value = record.get(field);
+        if (value == null) {
+            return null;
+        }
+        String text = value.toString().trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        if (text.length() > maxLength) {
+            throw new IllegalArgumentException(field + " must be at most " + maxLength + " characters");
+        }
+        return text;
+    }
+
+    private static <E extends Enum<E>> E enumValue(Map<String, ?> record, String field, Class<E> type) {
+        String text = text(record, field, Integer.MAX_VALUE);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, text.toUpperCase(Locale.ROOT).replace('-', '_').replace(' ', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + field + ": " + text);
+        }
+    }
+
+    private static BigDecimal decimal(Map<String, ?> record, String field) {
+        String text = text(record, field, Integer.MAX_VALUE);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " is not a number: " + text);
+        }
+    }
+
+    private static LocalDate date(Map<String, ?> record, String field) {
+        String text = text(record, field, Integer.MAX_VALUE);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(text);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(field + " must be an ISO date (yyyy-MM-dd): " + text);
+        }
+    }
+
+    private static String plain(BigDecimal value) {
+        return value != null ? value.stripTrailingZeros().toPlainString() : null;
+    }
+}
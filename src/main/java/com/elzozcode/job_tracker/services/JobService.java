@@ -1,19 +1,39 @@
 package com.elzozcode.job_tracker.services;
 
 import com.elzozcode.job_tracker.dtos.JobDto;
+import com.elzozcode.job_tracker.dtos.response.CursorPage;
 import com.elzozcode.job_tracker.entity.Company;
 import com.elzozcode.job_tracker.entity.Job;
+import com.elzozcode.job_tracker.entity.ResourceVersion;
+import com.elzozcode.job_tracker.entity.enums.JobType;
+import com.elzozcode.job_tracker.entity.enums.WorkMode;
+import com.elzozcode.job_tracker.exception.InvalidRequestException;
 import com.elzozcode.job_tracker.exception.ResourceNotFoundException;
 import com.elzozcode.job_tracker.exception.UnauthorizedException;
 import com.elzozcode.job_tracker.repositories.CompanyRepository;
+import com.elzozcode.job_tracker.repositories.DenormalizationOutboxRepository;
 import com.elzozcode.job_tracker.repositories.JobRepository;
+import com.elzozcode.job_tracker.repositories.ResourceVersionRepository;
+import com.elzozcode.job_tracker.repositories.UserApplicationStatsRepository;
+import com.elzozcode.job_tracker.repositories.projections.JobSearchHit;
+import com.elzozcode.job_tracker.repositories.projections.JobVersion;
+import com.elzozcode.job_tracker.repositories.projections.JobView;
+import com.elzozcode.job_tracker.utils.CursorCodec;
+import com.elzozcode.job_tracker.utils.ETags;
 import com.elzozcode.job_tracker.utils.SecurityUtils;
+import com.elzozcode.job_tracker.utils.TsQueryBuilder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +43,13 @@ public class JobService {
 
     private final JobRepository jobRepository;
     private final CompanyRepository companyRepository;
+    private final ResourceVersionRepository resourceVersionRepository;
+    private final DenormalizationOutboxRepository outboxRepository;
+    private final UserApplicationStatsRepository userApplicationStatsRepository;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_OFFSET = 1000;
 
     public JobDto createJob(JobDto jobDto) {
         Long companyId = SecurityUtils.getCurrentCompanyId();
@@ -45,50 +72,131 @@ public class JobService {
                 .postedDate(jobDto.getPostedDate() != null ? jobDto.getPostedDate() : LocalDate.now())
                 .deadlineDate(jobDto.getDeadlineDate())
                 .isActive(true)
+                // No feed hash: if the company's feed later lists this jobUrl, the sync overwrites the posting
+                .contentHash(null)
                 .build();
 
         Job savedJob = jobRepository.save(job);
         return mapToDto(savedJob);
     }
 
+    /**
+     * Strong ETag of a single job; covers the company too because the DTO carries its name.
+     */
+    @Transactional(readOnly = true)
+    public String getJobETag(Long jobId) {
+        JobVersion version = jobRepository.findVersionById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
+        return ETags.strong(jobId, version.getJobVersion(), version.getCompanyVersion());
+    }
+
+    @Transactional(readOnly = true)
+    public String getActiveJobsETag() {
+        return ETags.strong(ResourceVersion.JOBS,
+                resourceVersionRepository.findVersionByName(ResourceVersion.JOBS).orElse(0L));
+    }
+
+    @Transactional(readOnly = true)
     public JobDto getJobById(Long jobId) {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
         return mapToDto(job);
     }
 
-    public List<JobDto> getAllActiveJobs() {
-        return jobRepository.findAllActiveJobs().stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<JobDto> getActiveJobsPage(
+            String cursor,
+            Integer limit,
+            JobType jobType,
+            WorkMode workMode,
+            String location
+    ) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        String locationFilter = location == null || location.isBlank() ? null : location.trim();
+        Limit fetchLimit = Limit.of(pageSize + 1);
+
+        List<JobView> jobs;
+        if (cursor == null || cursor.isBlank()) {
+            jobs = jobRepository.findActiveJobsFirstPage(jobType, workMode, locationFilter, fetchLimit);
+        } else {
+            CursorCodec.Cursor position = CursorCodec.decode(cursor);
+            jobs = jobRepository.findActiveJobsAfter(
+                    parsePostedDate(position.key()), position.id(), jobType, workMode, locationFilter, fetchLimit);
+        }
+
+        boolean hasMore = jobs.size() > pageSize;
+        List<JobView> page = hasMore ? jobs.subList(0, pageSize) : jobs;
+
+        String nextCursor = null;
+        if (hasMore) {
+            JobView last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(last.postedDate().toString(), last.id());
+        }
+
+        return new CursorPage<>(page.stream().map(this::mapToDto).toList(), nextCursor, hasMore);
     }
 
+    @Transactional(readOnly = true)
     public List<JobDto> getMyCompanyJobs() {
         Long companyId = SecurityUtils.getCurrentCompanyId();
 
-        return jobRepository.findActiveJobsByCompanyId(companyId).stream()
+        return jobRepository.findActiveJobViewsByCompanyId(companyId).stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
 
-    public List<JobDto> searchJobs(String searchTerm) {
-        return jobRepository.searchActiveJobs(searchTerm).stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<JobDto> searchJobs(String searchTerm, Integer limit, Integer offset) {
+        String query = TsQueryBuilder.build(searchTerm);
+        if (query.isEmpty()) {
+            throw new InvalidRequestException("Search query must contain at least one word");
+        }
+
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        int skip = offset == null ? 0 : Math.max(0, Math.min(offset, MAX_SEARCH_OFFSET));
+
+        List<JobSearchHit> hits = jobRepository.searchActiveJobs(query, pageSize, skip);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, JobView> jobsById = jobRepository.findJobViewsByIdIn(
+                        hits.stream().map(JobSearchHit::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(JobView::id, Function.identity()));
+
+        return hits.stream()
+                .filter(hit -> jobsById.containsKey(hit.getId()))
+                .map(hit -> {
+                    JobDto dto = mapToDto(jobsById.get(hit.getId()));
+                    dto.setSearchRank(hit.getRank());
+                    dto.setSnippet(hit.getSnippet());
+                    return dto;
+                })
+                .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<JobDto> getJobsWithUpcomingDeadlines() {
         return jobRepository.findUpcomingDeadlineJobs(LocalDate.now()).stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Fails with {@code ObjectOptimisticLockingFailureException} (409) when the job changed since it was read.
+     * An edit to any field the company feed hashes drops the stored feed hash, so the next feed sync
+     * rewrites the posting instead of counting it as unchanged.
+     */
     public JobDto updateJob(Long jobId, JobDto jobDto) {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
 
         checkOwnership(job.getCompany().getId());
 
+        List<Object> copiedFields = copiedFields(job);
+        List<Object> feedFields = feedFields(job);
+
         if (jobDto.getJobTitle() != null) job.setJobTitle(jobDto.getJobTitle());
         if (jobDto.getDescription() != null) job.setDescription(jobDto.getDescription());
         if (jobDto.getRequirements() != null) job.setRequirements(jobDto.getRequirements());
@@ -102,10 +210,33 @@ public class JobService {
         if (jobDto.getDeadlineDate() != null) job.setDeadlineDate(jobDto.getDeadlineDate());
         if (jobDto.getIsActive() != null) job.setIsActive(jobDto.getIsActive());
 
+        if (!feedFields.equals(feedFields(job))) {
+            job.setContentHash(null);
+        }
+
         Job updatedJob = jobRepository.save(job);
+        if (!copiedFields.equals(copiedFields(updatedJob))) {
+            outboxRepository.enqueue(DenormalizationOutboxRepository.JOB, jobId);
+        }
         return mapToDto(updatedJob);
     }
 
+    // Fields that job applications keep a copy of
+    private static List<Object> copiedFields(Job job) {
+        return Arrays.asList(job.getJobTitle(), job.getLocation(), job.getJobType(), job.getWorkMode());
+    }
+
+    // Fields covered by JobFeedService.contentHash, plus the URL the feed matches postings on
+    private static List<Object> feedFields(Job job) {
+        return Arrays.asList(job.getJobUrl(), job.getJobTitle(), job.getDescription(), job.getRequirements(),
+                job.getLocation(), job.getJobType(), job.getWorkMode(), plain(job.getSalaryMin()),
+                plain(job.getSalaryMax()), job.getCurrency(), job.getPostedDate(), job.getDeadlineDate());
+    }
+
+    private static BigDecimal plain(BigDecimal value) {
+        return value != null ? value.stripTrailingZeros() : null;
+    }
+
     public void deactivateJob(Long jobId) {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
@@ -122,9 +253,18 @@ public class JobService {
 
         checkOwnership(job.getCompany().getId());
 
+        userApplicationStatsRepository.subtractApplicationsOfJob(jobId);
         jobRepository.delete(job);
     }
 
+    private LocalDate parsePostedDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
     private void checkOwnership(Long jobCompanyId) {
         Long currentCompanyId = SecurityUtils.getCurrentCompanyId();
 
@@ -153,4 +293,25 @@ public class JobService {
                 .isActive(job.getIsActive())
                 .build();
     }
+
+    private JobDto mapToDto(JobView job) {
+        return JobDto.builder()
+                .id(job.id())
+                .companyId(job.companyId())
+                .companyName(job.companyName())
+                .jobTitle(job.jobTitle())
+                .description(job.description())
+                .requirements(job.requirements())
+                .location(job.location())
+                .jobType(job.jobType())
+                .workMode(job.workMode())
+                .salaryMin(job.salaryMin())
+                .salaryMax(job.salaryMax())
+                .currency(job.currency())
+                .jobUrl(job.jobUrl())
+                .postedDate(job.postedDate())
+                .deadlineDate(job.deadlineDate())
+                .isActive(job.isActive())
+                .build();
+    }
 }
\ No newline at end of file
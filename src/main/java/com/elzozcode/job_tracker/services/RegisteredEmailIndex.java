@@ -0,0 +1,94 @@
+package com.elzozcode.job_tracker.services;
+
+import com.elzozcode.job_tracker.repositories.UserRepository;
+import com.elzozcode.job_tracker.utils.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Answers "is this email already registered?" for registration. A Bloom filter of every
+ * user and company email gives a definite answer for new emails without touching the
+ * database; possible matches are confirmed with a single exists query. The filter only sees
+ * this node's registrations, so a miss is an early answer, not a guarantee: the
+ * {@code account_emails} table stays the final arbiter and rejects the insert of a taken email.
+ */
+@Slf4j
+@Component
+public class RegisteredEmailIndex {
+
+    private final UserRepository userRepository;
+    private final BloomFilter filter;
+    private final Counter definiteMisses;
+    private final Counter databaseChecks;
+    private final Counter falsePositives;
+    private volatile boolean warmedUp;
+
+    public RegisteredEmailIndex(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${auth.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${auth.email-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.userRepository = userRepository;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+        this.definiteMisses = Counter.builder("auth.email_filter.lookups")
+                .tag("result", "definite_miss")
+                .register(meterRegistry);
+        this.databaseChecks = Counter.builder("auth.email_filter.lookups")
+                .tag("result", "database_check")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("auth.email_filter.false_positives")
+                .description("Filter matches that the database did not confirm")
+                .register(meterRegistry);
+        Gauge.builder("auth.email_filter.expected_false_positive_rate", filter, BloomFilter::expectedFalsePositiveRate)
+                .register(meterRegistry);
+        Gauge.builder("auth.email_filter.memory", filter, BloomFilter::memoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("auth.email_filter.insertions", filter, BloomFilter::insertions)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        try (Stream<String> emails = userRepository.streamAllAccountEmails()) {
+            emails.forEach(filter::put);
+        }
+        warmedUp = true;
+        log.info("Registered email filter warmed up with {} emails", filter.insertions());
+    }
+
+    public boolean isRegistered(String email) {
+        if (warmedUp && !filter.mightContain(normalize(email))) {
+            definiteMisses.increment();
+            return false;
+        }
+
+        databaseChecks.increment();
+        boolean registered = userRepository.existsAccountByEmail(email);
+        if (!registered && warmedUp) {
+            falsePositives.increment();
+        }
+        return registered;
+    }
+
+    public void add(String email) {
+        filter.put(normalize(email));
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
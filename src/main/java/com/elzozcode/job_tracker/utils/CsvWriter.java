@@ -0,0 +1,55 @@
+package com.elzozcode.job_tracker.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.regex.Pattern;
+
+/**
+ * Writes RFC 4180 records. Fields containing a separator, quote or line break are quoted, and
+ * text starting with a spreadsheet formula character ({@code = + @}, tab, carriage return, or a
+ * {@code -} that does not start a number) is prefixed with {@code '} so exported user input
+ * cannot run as a formula when the file is opened in a spreadsheet.
+ */
+public final class CsvWriter {
+
+    private static final Pattern NEGATIVE_NUMBER = Pattern.compile("-\\d+(\\.\\d+)?");
+
+    private final Writer writer;
+
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void writeRecord(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escape(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    static String escape(String value) {
+        if (isFormula(value)) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static boolean isFormula(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        if (first == '-') {
+            return !NEGATIVE_NUMBER.matcher(value).matches();
+        }
+        return "=+@\t\r".indexOf(first) >= 0;
+    }
+}
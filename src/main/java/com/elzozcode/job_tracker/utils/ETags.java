@@ -0,0 +1,19 @@
+package com.elzozcode.job_tracker.utils;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * @return a quoted strong entity tag made of the given parts, e.g. {@code "42-3-7"}
+     */
+    public static String strong(Object... parts) {
+        return Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("-", "\"", "\""));
+    }
+}
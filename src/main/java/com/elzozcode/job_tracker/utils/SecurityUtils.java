@@ -16,10 +16,8 @@ public class SecurityUtils {
                     "No authenticated user found");
         }
 
-        Object principal = authentication.getPrincipal();
-
-        if (principal instanceof UserPrincipal) {
-            return (UserPrincipal) principal;
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
         }
 
         throw new InvalidCredentialsException("Invalid principal type");
@@ -0,0 +1,68 @@
+package com.elzozcode.job_tracker.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Translates free-text search input into a PostgreSQL {@code to_tsquery} expression.
+ * Quoted text becomes a phrase ({@code <->}), a trailing {@code *} becomes a prefix match ({@code :*})
+ * and everything else is AND-ed. Only letters and digits reach the query, so user input
+ * cannot inject tsquery operators.
+ */
+public final class TsQueryBuilder {
+
+    private static final Pattern TERM = Pattern.compile("\"([^\"]*)\"|(\\S+)");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TsQueryBuilder() {
+    }
+
+    /**
+     * @return the tsquery expression, or an empty string when the input has no searchable words
+     */
+    public static String build(String input) {
+        if (input == null) {
+            return "";
+        }
+
+        List<String> clauses = new ArrayList<>();
+        Matcher matcher = TERM.matcher(input);
+
+        while (matcher.find()) {
+            if (matcher.group(1) != null) {
+                List<String> words = words(matcher.group(1));
+                if (words.size() == 1) {
+                    clauses.add(words.get(0));
+                } else if (!words.isEmpty()) {
+                    clauses.add("(" + String.join(" <-> ", words) + ")");
+                }
+                continue;
+            }
+
+            String term = matcher.group(2);
+            boolean prefix = term.endsWith("*");
+            List<String> words = words(term);
+            if (words.isEmpty()) {
+                continue;
+            }
+
+            String clause = words.size() == 1 ? words.get(0) : "(" + String.join(" <-> ", words) + ")";
+            clauses.add(prefix && words.size() == 1 ? clause + ":*" : clause);
+        }
+
+        return String.join(" & ", clauses);
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
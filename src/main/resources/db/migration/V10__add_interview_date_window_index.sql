@@ -0,0 +1,2 @@
+-- Upcoming/completed interview windows: per application, seek by (interview_date, id)
+CREATE INDEX idx_interviews_application_date_id ON interviews (job_application_id, interview_date, id);
@@ -0,0 +1,4 @@
+-- Company feed sync matches postings by job_url and rewrites only rows whose content hash changed
+ALTER TABLE jobs ADD COLUMN content_hash VARCHAR(64);
+
+CREATE INDEX idx_jobs_company_job_url ON jobs (company_id, job_url) WHERE job_url IS NOT NULL;
@@ -0,0 +1,90 @@
+-- Per-row versions back the ETags of single jobs and companies
+ALTER TABLE jobs ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE companies ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Per-collection versions back the ETags of list endpoints. They are bumped once per statement and only when the
+-- statement changed rows the listing shows, so no-op writes and password rehashes do not take the shared row lock
+CREATE TABLE resource_versions (
+    name    VARCHAR(50) PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO resource_versions (name) VALUES ('jobs'), ('companies');
+
+CREATE FUNCTION bump_jobs_version() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM 1 FROM new_rows LIMIT 1;
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM 1 FROM old_rows LIMIT 1;
+    ELSE
+        PERFORM 1 FROM new_rows n JOIN old_rows o ON o.job_id = n.job_id WHERE n IS DISTINCT FROM o LIMIT 1;
+    END IF;
+
+    IF FOUND THEN
+        UPDATE resource_versions SET version = version + 1 WHERE name = 'jobs';
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+-- Job listings embed the company name, so a rename also changes the jobs collection
+CREATE FUNCTION bump_companies_version() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    listed_changed  BOOLEAN;
+    renamed         BOOLEAN := FALSE;
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        listed_changed := EXISTS (SELECT 1 FROM new_rows);
+    ELSIF TG_OP = 'DELETE' THEN
+        listed_changed := EXISTS (SELECT 1 FROM old_rows);
+    ELSE
+        SELECT COALESCE(BOOL_OR((n.name, n.description, n.website, n.industry, n.location)
+                                    IS DISTINCT FROM (o.name, o.description, o.website, o.industry, o.location)), FALSE),
+               COALESCE(BOOL_OR(n.name IS DISTINCT FROM o.name), FALSE)
+        INTO listed_changed, renamed
+        FROM new_rows n
+                 JOIN old_rows o ON o.company_id = n.company_id;
+    END IF;
+
+    IF renamed THEN
+        UPDATE resource_versions SET version = version + 1 WHERE name IN ('companies', 'jobs');
+    ELSIF listed_changed THEN
+        UPDATE resource_versions SET version = version + 1 WHERE name = 'companies';
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+-- Triggers with transition tables take a single event each
+CREATE TRIGGER trg_jobs_resource_versions_insert
+    AFTER INSERT ON jobs REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_jobs_version();
+
+CREATE TRIGGER trg_jobs_resource_versions_update
+    AFTER UPDATE ON jobs REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_jobs_version();
+
+CREATE TRIGGER trg_jobs_resource_versions_delete
+    AFTER DELETE ON jobs REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_jobs_version();
+
+CREATE TRIGGER trg_companies_resource_versions_insert
+    AFTER INSERT ON companies REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_companies_version();
+
+CREATE TRIGGER trg_companies_resource_versions_update
+    AFTER UPDATE ON companies REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_companies_version();
+
+CREATE TRIGGER trg_companies_resource_versions_delete
+    AFTER DELETE ON companies REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_companies_version();
+
+-- Lets the per-user application fingerprint run as an index-only scan
+CREATE INDEX idx_job_applications_user_fingerprint
+    ON job_applications (user_id) INCLUDE (updated_at, job_application_id);
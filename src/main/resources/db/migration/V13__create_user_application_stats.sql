@@ -0,0 +1,17 @@
+-- Per-user application counts by status, maintained by the application in the same transaction as each write
+CREATE TABLE user_application_stats (
+    user_id           BIGINT      NOT NULL,
+    status            VARCHAR(20) NOT NULL,
+    application_count BIGINT      NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (user_id, status),
+    CONSTRAINT fk_user_application_stats_user
+        FOREIGN KEY (user_id)
+            REFERENCES users (user_id)
+            ON DELETE CASCADE
+);
+
+INSERT INTO user_application_stats (user_id, status, application_count)
+SELECT user_id, status, COUNT(*)
+FROM job_applications
+GROUP BY user_id, status;
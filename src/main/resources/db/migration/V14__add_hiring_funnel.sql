@@ -0,0 +1,8 @@
+-- Funnel counts and timing read (status, application_date, job_application_id) per job without touching the heap,
+-- so application writes keep no per-job rollup row to contend on; the leading job_id column makes the
+-- single-column index from V6 redundant
+CREATE INDEX idx_job_applications_job_funnel
+    ON job_applications (job_id, status) INCLUDE (application_date, job_application_id)
+    WHERE job_id IS NOT NULL;
+
+DROP INDEX idx_job_applications_job_id;
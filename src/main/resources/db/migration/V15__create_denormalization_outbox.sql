@@ -0,0 +1,9 @@
+-- Jobs and companies whose edits still have to be copied into job_applications.
+-- Written in the transaction of the edit, drained by the application in the background.
+CREATE TABLE denormalization_outbox (
+    id             BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(20) NOT NULL,
+    aggregate_id   BIGINT      NOT NULL,
+    created_at     TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    claimed_until  TIMESTAMP
+);
@@ -0,0 +1,42 @@
+-- One row per case-normalized email across users and companies, so the database rejects an email
+-- that is already taken in either table even when registration skipped the existence query
+CREATE TABLE account_emails (
+    email VARCHAR(255) PRIMARY KEY
+);
+
+INSERT INTO account_emails (email)
+SELECT LOWER(email) FROM users
+UNION
+SELECT LOWER(email) FROM companies;
+
+CREATE FUNCTION sync_account_emails() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF TG_OP = 'UPDATE' AND LOWER(NEW.email) = LOWER(OLD.email) THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        -- Rows that already shared an email before this table existed keep it claimed until the last one goes
+        DELETE FROM account_emails a
+        WHERE a.email = LOWER(OLD.email)
+          AND NOT EXISTS (SELECT 1 FROM users u WHERE LOWER(u.email) = a.email)
+          AND NOT EXISTS (SELECT 1 FROM companies c WHERE LOWER(c.email) = a.email);
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO account_emails (email) VALUES (LOWER(NEW.email));
+    END IF;
+
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_users_account_emails
+    AFTER INSERT OR UPDATE OF email OR DELETE ON users
+    FOR EACH ROW EXECUTE FUNCTION sync_account_emails();
+
+CREATE TRIGGER trg_companies_account_emails
+    AFTER INSERT OR UPDATE OF email OR DELETE ON companies
+    FOR EACH ROW EXECUTE FUNCTION sync_account_emails();
@@ -0,0 +1,4 @@
+-- Login and registration resolve accounts by case-normalized email across users and companies.
+-- Lookup indexes only: existing rows may differ by case alone, and a unique index would abort the migration.
+CREATE INDEX idx_users_email_lower ON users (LOWER(email));
+CREATE INDEX idx_companies_email_lower ON companies (LOWER(email));
@@ -0,0 +1,6 @@
+-- Keyset pagination of the public job listing seeks on (posted_date, job_id)
+UPDATE jobs SET posted_date = COALESCE(CAST(created_at AS DATE), CURRENT_DATE) WHERE posted_date IS NULL;
+ALTER TABLE jobs ALTER COLUMN posted_date SET DEFAULT CURRENT_DATE;
+ALTER TABLE jobs ALTER COLUMN posted_date SET NOT NULL;
+
+CREATE INDEX idx_jobs_active_posted_date_id ON jobs (posted_date DESC, job_id DESC) WHERE is_active = true;
@@ -0,0 +1,8 @@
+-- Weighted full-text document for job search: title (A), requirements (B), description (C)
+ALTER TABLE jobs ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', COALESCE(job_title, '')), 'A') ||
+    setweight(to_tsvector('english', COALESCE(requirements, '')), 'B') ||
+    setweight(to_tsvector('english', COALESCE(description, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_jobs_search_vector ON jobs USING GIN (search_vector);
@@ -0,0 +1,80 @@
+package com.elzozcode.job_tracker.config;
+
+import com.elzozcode.job_tracker.entity.enums.ApplicationStatus;
+import com.elzozcode.job_tracker.entity.enums.Role;
+import com.elzozcode.job_tracker.exception.ResourceNotFoundException;
+import com.elzozcode.job_tracker.repositories.HiringFunnelRepository;
+import com.elzozcode.job_tracker.repositories.HiringFunnelRepository.InterviewTiming;
+import com.elzozcode.job_tracker.repositories.JobRepository;
+import com.elzozcode.job_tracker.security.UserPrincipal;
+import com.elzozcode.job_tracker.services.HiringFunnelService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.EnumMap;
+import java.util.Optional;
+
+import static com.elzozcode.job_tracker.support.TestSecurity.authenticate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InvocationMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private HiringFunnelRepository hiringFunnelRepository;
+    private JobRepository jobRepository;
+    private HiringFunnelService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hiringFunnelRepository = mock(HiringFunnelRepository.class);
+        jobRepository = mock(JobRepository.class);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new HiringFunnelService(hiringFunnelRepository, jobRepository));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new InvocationMetricsAspect(meterRegistry));
+        service = factory.getProxy();
+
+        UserPrincipal principal = new UserPrincipal(2L, "company@example.com", Role.ROLE_COMPANY, 7L);
+        authenticate(principal);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void serviceCall_shouldBeTimedWithLayerClassAndMethod() {
+        when(hiringFunnelRepository.findCountsByCompanyId(7L)).thenReturn(new EnumMap<>(ApplicationStatus.class));
+        when(hiringFunnelRepository.findInterviewTimingByCompanyId(7L)).thenReturn(new InterviewTiming(0, null));
+
+        service.getCompanyFunnel();
+
+        Timer timer = meterRegistry.find(InvocationMetricsAspect.METRIC)
+                .tags("layer", "service", "class", "HiringFunnelService", "method", "getCompanyFunnel", "exception", "none")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void failingServiceCall_shouldBeTaggedWithTheException() {
+        when(jobRepository.findById(3L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> service.getJobFunnel(3L));
+
+        assertNotNull(meterRegistry.find(InvocationMetricsAspect.METRIC)
+                .tags("method", "getJobFunnel", "exception", "ResourceNotFoundException")
+                .timer());
+    }
+}
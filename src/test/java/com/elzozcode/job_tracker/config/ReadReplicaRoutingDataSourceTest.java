@@ -0,0 +1,84 @@
+package com.elzozcode.job_tracker.config;
+
+import com.elzozcode.job_tracker.entity.enums.Role;
+import com.elzozcode.job_tracker.security.UserPrincipal;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static com.elzozcode.job_tracker.support.TestSecurity.authenticate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private ReplicaStickiness stickiness;
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        stickiness = new ReplicaStickiness(Duration.ofMinutes(1), 100);
+        routingDataSource = new ReadReplicaRoutingDataSource(
+                mock(DataSource.class), List.of(mock(DataSource.class), mock(DataSource.class)), stickiness);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readWriteWork_shouldGoToPrimary() {
+        assertEquals(ReadReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void readOnlyTransactions_shouldRoundRobinAcrossReplicas() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica-0", routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-1", routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-0", routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void readOnlyTransaction_afterOwnWrite_shouldStickToPrimary() {
+        authenticate(new UserPrincipal(1L, "user@example.com", Role.ROLE_USER, null));
+        TransactionExecution write = mock(TransactionExecution.class);
+        when(write.isReadOnly()).thenReturn(false);
+        stickiness.afterCommit(write, null);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(ReadReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+
+        authenticate(new UserPrincipal(2L, "other@example.com", Role.ROLE_USER, null));
+        assertEquals("replica-0", routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void close_shouldClosePoolsBehindAConcurrencyLimiter() {
+        HikariDataSource primary = new HikariDataSource();
+        HikariDataSource replica = new HikariDataSource();
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(
+                new ConcurrencyLimitingDataSource(primary, 10, Duration.ofSeconds(1)),
+                List.of(new ConcurrencyLimitingDataSource(replica, 10, Duration.ofSeconds(1))),
+                stickiness);
+        routing.afterPropertiesSet();
+
+        routing.close();
+
+        assertTrue(primary.isClosed());
+        assertTrue(replica.isClosed());
+    }
+}
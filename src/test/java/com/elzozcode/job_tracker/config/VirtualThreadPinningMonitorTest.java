@@ -0,0 +1,46 @@
+package com.elzozcode.job_tracker.config;
+
+import com.elzozcode.job_tracker.config.VirtualThreadPinningMonitor.PinnedSite;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VirtualThreadPinningMonitorTest {
+
+    private static final List<String> PGJDBC_STACK = List.of(
+            "java.lang.Object.wait0:-1",
+            "org.postgresql.core.v3.QueryExecutorImpl.execute:370",
+            "org.hibernate.engine.jdbc.internal.ResultSetReturnImpl.executeQuery:57",
+            "com.elzozcode.job_tracker.services.JobService.getJobById:93");
+
+    @Test
+    void siteOf_shouldPreferPersistenceFramesOverApplicationAndJdkFrames() {
+        assertEquals("org.postgresql.core.v3.QueryExecutorImpl.execute:370", VirtualThreadPinningMonitor.siteOf(PGJDBC_STACK));
+        assertEquals("com.elzozcode.job_tracker.Foo.bar:1",
+                VirtualThreadPinningMonitor.siteOf(List.of("java.lang.Object.wait0:-1", "com.elzozcode.job_tracker.Foo.bar:1")));
+        assertEquals("<unknown>", VirtualThreadPinningMonitor.siteOf(List.of()));
+    }
+
+    @Test
+    void report_shouldAggregatePerSiteLongestTotalFirst() {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor();
+        List<String> other = List.of("com.elzozcode.job_tracker.Foo.bar:1");
+
+        monitor.record(PGJDBC_STACK, Duration.ofMillis(30));
+        monitor.record(PGJDBC_STACK, Duration.ofMillis(50));
+        monitor.record(other, Duration.ofMillis(40));
+
+        List<PinnedSite> report = monitor.report();
+        assertEquals(2, report.size());
+        assertEquals("org.postgresql.core.v3.QueryExecutorImpl.execute:370", report.get(0).site());
+        assertEquals(2, report.get(0).count());
+        assertEquals(80, report.get(0).totalMillis());
+        assertEquals(50, report.get(0).maxMillis());
+
+        monitor.reset();
+        assertEquals(List.of(), monitor.report());
+    }
+}
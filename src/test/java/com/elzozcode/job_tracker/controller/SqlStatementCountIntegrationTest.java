@@ -0,0 +1,516 @@
+package com.elzozcode.job_tracker.controller;
+
+import com.elzozcode.job_tracker.entity.Company;
+import com.elzozcode.job_tracker.entity.Interview;
+import com.elzozcode.job_tracker.entity.Job;
+import com.elzozcode.job_tracker.entity.JobApplication;
+import com.elzozcode.job_tracker.entity.User;
+import com.elzozcode.job_tracker.dtos.JobDto;
+import com.elzozcode.job_tracker.entity.enums.ApplicationStatus;
+import com.elzozcode.job_tracker.entity.enums.InterviewStatus;
+import com.elzozcode.job_tracker.entity.enums.InterviewType;
+import com.elzozcode.job_tracker.entity.enums.JobType;
+import com.elzozcode.job_tracker.entity.enums.Role;
+import com.elzozcode.job_tracker.entity.enums.WorkMode;
+import com.elzozcode.job_tracker.repositories.CompanyRepository;
+import com.elzozcode.job_tracker.repositories.InterviewRepository;
+import com.elzozcode.job_tracker.repositories.JobApplicationRepository;
+import com.elzozcode.job_tracker.repositories.JobRepository;
+import com.elzozcode.job_tracker.repositories.UserRepository;
+import com.elzozcode.job_tracker.security.JwtUtil;
+import com.elzozcode.job_tracker.security.UserPrincipal;
+import com.elzozcode.job_tracker.services.CompanySuggestionIndex;
+import com.elzozcode.job_tracker.services.JobService;
+import com.elzozcode.job_tracker.support.DockerAvailableCondition;
+import com.elzozcode.job_tracker.support.SqlStatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.elzozcode.job_tracker.support.TestSecurity.authenticate;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of SQL statements each endpoint issues. The counts must not grow with the number
+ * of rows, so each endpoint is measured with a few rows seeded and again with many. Runs against a
+ * throwaway PostgreSQL container migrated by Flyway; skipped without Docker, except on CI where
+ * that fails the build.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(SqlStatementCounter.class)
+@ExtendWith(DockerAvailableCondition.class)
+@Testcontainers
+class SqlStatementCountIntegrationTest {
+
+    private static final int FEW = 2;
+    private static final int MANY = 25;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:18-alpine");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private CompanySuggestionIndex companySuggestionIndex;
+
+    private Company company;
+    private User user;
+    private String keyword;
+    private final List<Job> jobs = new ArrayList<>();
+    private final List<Company> otherCompanies = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        keyword = "sqlcount" + suffix;
+        company = companyRepository.save(Company.builder()
+                .name("Statement Count " + suffix)
+                .email("sqlcount-" + suffix + "@example.com")
+                .password("not-a-real-hash")
+                .build());
+        user = userRepository.save(User.builder()
+                .fullName("Statement Count " + suffix)
+                .email("sqlcount-user-" + suffix + "@example.com")
+                .password("not-a-real-hash")
+                .build());
+        seedJobs(FEW);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        companySuggestionIndex.remove(company.getId());
+        userRepository.deleteById(user.getId());
+        companyRepository.deleteAll(otherCompanies);
+        companyRepository.deleteById(company.getId());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void activeJobs_shouldReadTheETagAndOnePage() throws Exception {
+        sqlStatementCounter.assertStatements(2, () -> mockMvc.perform(get("/jobs").param("limit", "50"))
+                .andExpect(status().isOk()));
+
+        seedJobs(MANY);
+
+        sqlStatementCounter.assertStatements(2, () -> mockMvc.perform(get("/jobs").param("limit", "50"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void jobById_shouldLoadTheCompanyOnlyOnACacheMiss() throws Exception {
+        Long jobId = jobs.get(0).getId();
+        entityManagerFactory.getCache().evictAll();
+
+        sqlStatementCounter.assertStatements(3, () -> mockMvc.perform(get("/jobs/{jobId}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.companyName").value(company.getName())));
+
+        sqlStatementCounter.assertStatements(1, () -> mockMvc.perform(get("/jobs/{jobId}", jobId))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void search_shouldRankThenFetchViewsInOneQuery() throws Exception {
+        sqlStatementCounter.assertStatements(2, () -> mockMvc.perform(get("/jobs/search").param("q", keyword))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(FEW)));
+
+        seedJobs(MANY);
+
+        sqlStatementCounter.assertStatements(2, () -> mockMvc.perform(get("/jobs/search")
+                        .param("q", keyword).param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(FEW + MANY)));
+    }
+
+    @Test
+    void myCompanyJobs_shouldBeASingleQuery() throws Exception {
+        String token = "Bearer " + jwtUtil.generateCompanyToken(company);
+
+        sqlStatementCounter.assertStatements(1, () -> mockMvc.perform(get("/jobs/company/mjobs")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(FEW)));
+
+        seedJobs(MANY);
+
+        sqlStatementCounter.assertStatements(1, () -> mockMvc.perform(get("/jobs/company/mjobs")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(FEW + MANY)));
+    }
+
+    @Test
+    void myApplications_shouldReadTheETagAndViews() throws Exception {
+        String token = "Bearer " + jwtUtil.generateUserToken(user);
+        seedApplications(FEW);
+
+        sqlStatementCounter.assertStatements(2, () -> mockMvc.perform(get("/api/applications")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(FEW)));
+
+        seedApplications(MANY);
+
+        sqlStatementCounter.assertStatements(2, () -> mockMvc.perform(get("/api/applications")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(FEW + MANY)));
+    }
+
+    @Test
+    void applicationsForJob_shouldBeASingleQuery() throws Exception {
+        String token = "Bearer " + jwtUtil.generateCompanyToken(company);
+        Long jobId = jobs.get(0).getId();
+        seedApplications(FEW);
+
+        sqlStatementCounter.assertStatements(1, () -> mockMvc.perform(get("/api/applications/job/{jobId}", jobId)
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(FEW)));
+
+        seedApplications(MANY);
+
+        sqlStatementCounter.assertStatements(1, () -> mockMvc.perform(get("/api/applications/job/{jobId}", jobId)
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(FEW + MANY)));
+    }
+
+    @Test
+    void applicationStats_shouldBeASingleQuery() throws Exception {
+        String token = "Bearer " + jwtUtil.generateUserToken(user);
+        seedApplications(MANY);
+
+        sqlStatementCounter.assertStatements(1, () -> mockMvc.perform(get("/api/applications/stats")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void myInterviews_shouldBeASingleQuery() throws Exception {
+        String token = "Bearer " + jwtUtil.generateUserToken(user);
+        seedApplications(FEW);
+
+        sqlStatementCounter.assertStatements(1, () -> mockMvc.perform(get("/api/interviews/user")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(FEW)));
+
+        seedApplications(MANY);
+
+        sqlStatementCounter.assertStatements(1, () -> mockMvc.perform(get("/api/interviews/user")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(FEW + MANY)));
+    }
+
+    @Test
+    void upcomingInterviews_shouldReadOnePage() throws Exception {
+        String token = "Bearer " + jwtUtil.generateUserToken(user);
+        seedApplications(FEW);
+
+        sqlStatementCounter.assertStatements(1, () -> mockMvc.perform(get("/api/interviews/upcoming")
+                        .param("limit", "50")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(FEW)));
+
+        seedApplications(MANY);
+
+        sqlStatementCounter.assertStatements(1, () -> mockMvc.perform(get("/api/interviews/upcoming")
+                        .param("limit", "50")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(FEW + MANY)));
+    }
+
+    @Test
+    void completedInterviews_shouldReadOnePage() throws Exception {
+        String token = "Bearer " + jwtUtil.generateUserToken(user);
+        seedApplications(jobs.get(0), FEW, LocalDateTime.now().minusDays(7));
+
+        sqlStatementCounter.assertStatements(1, () -> mockMvc.perform(get("/api/interviews/completed")
+                        .param("limit", "50")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(FEW)));
+
+        seedApplications(jobs.get(0), MANY, LocalDateTime.now().minusDays(7));
+
+        sqlStatementCounter.assertStatements(1, () -> mockMvc.perform(get("/api/interviews/completed")
+                        .param("limit", "50")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(FEW + MANY)));
+    }
+
+    @Test
+    void companyInterviews_shouldBeASingleQuery() throws Exception {
+        String token = "Bearer " + jwtUtil.generateCompanyToken(company);
+        seedApplications(FEW);
+
+        sqlStatementCounter.assertStatements(1, () -> mockMvc.perform(get("/api/interviews/company")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(FEW)));
+
+        seedApplications(MANY);
+
+        sqlStatementCounter.assertStatements(1, () -> mockMvc.perform(get("/api/interviews/company")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(FEW + MANY)));
+    }
+
+    @Test
+    void companies_shouldReadTheETagAndOneList() throws Exception {
+        String token = "Bearer " + jwtUtil.generateCompanyToken(company);
+
+        sqlStatementCounter.assertStatements(2, () -> mockMvc.perform(get("/api/companies")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk()));
+
+        seedCompanies(MANY);
+
+        sqlStatementCounter.assertStatements(2, () -> mockMvc.perform(get("/api/companies")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void companyById_shouldLoadTheCompanyOnlyOnACacheMiss() throws Exception {
+        String token = "Bearer " + jwtUtil.generateUserToken(user);
+        entityManagerFactory.getCache().evictAll();
+
+        sqlStatementCounter.assertStatements(2, () -> mockMvc.perform(get("/api/companies/{id}", company.getId())
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value(company.getName())));
+
+        sqlStatementCounter.assertStatements(1, () -> mockMvc.perform(get("/api/companies/{id}", company.getId())
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void companySuggest_shouldNotTouchTheDatabase() throws Exception {
+        String token = "Bearer " + jwtUtil.generateUserToken(user);
+        companySuggestionIndex.put(company.getId(), company.getName(), company.getIndustry());
+
+        sqlStatementCounter.assertStatements(0, () -> mockMvc.perform(get("/api/companies/suggest")
+                        .param("prefix", company.getName())
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1)));
+    }
+
+    @Test
+    void apply_shouldNotGrowWithTheApplicationsAlreadyThere() throws Exception {
+        String token = "Bearer " + jwtUtil.generateUserToken(user);
+        String body = """
+                {"jobId": %d, "status": "APPLIED"}
+                """.formatted(jobs.get(0).getId());
+        entityManagerFactory.getCache().evictAll();
+
+        // user, job and company, the insert and the status counter
+        sqlStatementCounter.assertStatements(5, () -> mockMvc.perform(post("/api/applications/apply")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated()));
+
+        seedApplications(MANY);
+        entityManagerFactory.getCache().evictAll();
+
+        sqlStatementCounter.assertStatements(5, () -> mockMvc.perform(post("/api/applications/apply")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated()));
+    }
+
+    @Test
+    void applicationStatusChange_shouldMoveOneCountBetweenStatuses() throws Exception {
+        String token = "Bearer " + jwtUtil.generateUserToken(user);
+        Long first = seedApplications(FEW).get(0).getId();
+
+        // user, the locked application, one counter down, one counter up and the update
+        sqlStatementCounter.assertStatements(5, () -> mockMvc.perform(put("/api/applications/{id}", first)
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(statusChange(ApplicationStatus.INTERVIEW)))
+                .andExpect(status().isOk()));
+
+        Long last = seedApplications(MANY).get(MANY - 1).getId();
+
+        sqlStatementCounter.assertStatements(5, () -> mockMvc.perform(put("/api/applications/{id}", last)
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(statusChange(ApplicationStatus.INTERVIEW)))
+                .andExpect(status().isOk()));
+    }
+
+    // JobService.updateJob has no HTTP endpoint, so it is measured at the service
+    @Test
+    void jobUpdate_shouldNotTouchTheApplications() throws Exception {
+        authenticate(new UserPrincipal(company.getId(), company.getEmail(), Role.ROLE_COMPANY, company.getId()));
+        Long jobId = jobs.get(0).getId();
+        seedApplications(FEW);
+        entityManagerFactory.getCache().evictAll();
+
+        // job, the outbox event for the renamed title, company for the response and the update
+        sqlStatementCounter.assertStatements(4, () ->
+                jobService.updateJob(jobId, JobDto.builder().jobTitle("Renamed " + keyword).build()));
+
+        seedApplications(MANY);
+        entityManagerFactory.getCache().evictAll();
+
+        sqlStatementCounter.assertStatements(4, () ->
+                jobService.updateJob(jobId, JobDto.builder().jobTitle("Renamed again " + keyword).build()));
+    }
+
+    @Test
+    void jobDelete_shouldLeaveTheApplicationsToTheDatabase() throws Exception {
+        String token = "Bearer " + jwtUtil.generateCompanyToken(company);
+        Job few = jobs.get(0);
+        Job many = jobs.get(1);
+        seedApplications(few, FEW, LocalDateTime.now().plusDays(7));
+        seedApplications(many, MANY, LocalDateTime.now().plusDays(7));
+        entityManagerFactory.getCache().evictAll();
+
+        // job, the status counters and the delete, which cascades to applications and interviews
+        sqlStatementCounter.assertStatements(3, () -> mockMvc.perform(delete("/jobs/{jobId}", few.getId())
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isNoContent()));
+
+        sqlStatementCounter.assertStatements(3, () -> mockMvc.perform(delete("/jobs/{jobId}", many.getId())
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isNoContent()));
+    }
+
+    private void seedJobs(int count) {
+        List<Job> batch = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            batch.add(Job.builder()
+                    .company(company)
+                    .jobTitle("Backend Engineer " + keyword)
+                    .description("Statement count fixture")
+                    .location("Cairo")
+                    .jobType(JobType.FULL_TIME)
+                    .workMode(WorkMode.HYBRID)
+                    .postedDate(LocalDate.now())
+                    .isActive(true)
+                    .build());
+        }
+        jobs.addAll(jobRepository.saveAll(batch));
+    }
+
+    private void seedCompanies(int count) {
+        List<Company> batch = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            batch.add(Company.builder()
+                    .name(company.getName() + " " + i)
+                    .email(i + "-" + company.getEmail())
+                    .password("not-a-real-hash")
+                    .build());
+        }
+        otherCompanies.addAll(companyRepository.saveAll(batch));
+    }
+
+    /**
+     * Seeds {@code count} applications by the test user to the first job, each with one upcoming interview.
+     */
+    private List<JobApplication> seedApplications(int count) {
+        return seedApplications(jobs.get(0), count, LocalDateTime.now().plusDays(7));
+    }
+
+    private List<JobApplication> seedApplications(Job job, int count, LocalDateTime interviewDate) {
+        List<JobApplication> applications = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            applications.add(JobApplication.builder()
+                    .user(user)
+                    .job(job)
+                    .companyName(company.getName())
+                    .jobTitle(job.getJobTitle())
+                    .applicationDate(LocalDate.now())
+                    .status(ApplicationStatus.APPLIED)
+                    .build());
+        }
+
+        List<JobApplication> saved = jobApplicationRepository.saveAll(applications);
+        List<Interview> interviews = new ArrayList<>();
+        for (JobApplication application : saved) {
+            interviews.add(Interview.builder()
+                    .jobApplication(application)
+                    .interviewDate(interviewDate)
+                    .interviewType(InterviewType.TECHNICAL)
+                    .status(InterviewStatus.SCHEDULED)
+                    .build());
+        }
+        interviewRepository.saveAll(interviews);
+        return saved;
+    }
+
+    private static String statusChange(ApplicationStatus status) {
+        return """
+                {"companyName": "Acme", "jobTitle": "Backend Engineer", "applicationDate": "%s", "status": "%s"}
+                """.formatted(LocalDate.now(), status);
+    }
+}
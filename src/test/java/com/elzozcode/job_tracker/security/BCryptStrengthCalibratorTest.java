@@ -0,0 +1,20 @@
+package com.elzozcode.job_tracker.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BCryptStrengthCalibratorTest {
+
+    @Test
+    void calibrate_withTinyBudget_shouldFallBackToMinimumStrength() {
+        assertEquals(4, BCryptStrengthCalibrator.calibrate(Duration.ZERO, 4, 6));
+    }
+
+    @Test
+    void calibrate_withGenerousBudget_shouldStopAtMaximumStrength() {
+        assertEquals(5, BCryptStrengthCalibrator.calibrate(Duration.ofSeconds(10), 4, 5));
+    }
+}
@@ -0,0 +1,103 @@
+package com.elzozcode.job_tracker.security;
+
+import com.elzozcode.job_tracker.entity.User;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtUtilTest {
+
+    private VerifiedClaimsCache verifiedClaimsCache;
+    private JwtUtil jwtUtil;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        verifiedClaimsCache = new VerifiedClaimsCache(100);
+        jwtUtil = createJwtUtil(verifiedClaimsCache, 60_000);
+
+        user = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .build();
+    }
+
+    @Test
+    void verifyToken_validToken_shouldReturnClaims() {
+        String token = jwtUtil.generateUserToken(user);
+
+        Optional<Claims> claims = jwtUtil.verifyToken(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals("test@example.com", claims.get().getSubject());
+        assertEquals(1L, claims.get().get("userId", Long.class));
+    }
+
+    @Test
+    void verifyToken_sameTokenTwice_shouldReuseVerifiedClaims() {
+        String token = jwtUtil.generateUserToken(user);
+
+        Claims first = jwtUtil.verifyToken(token).orElseThrow();
+        Claims second = jwtUtil.verifyToken(token).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(1, verifiedClaimsCache.size());
+    }
+
+    @Test
+    void verifyToken_tamperedToken_shouldReturnEmpty() {
+        String token = jwtUtil.generateUserToken(user);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertTrue(jwtUtil.verifyToken(tampered).isEmpty());
+    }
+
+    @Test
+    void verifyToken_expiredToken_shouldReturnEmpty() {
+        JwtUtil expiringJwtUtil = createJwtUtil(verifiedClaimsCache, -1_000);
+        String token = expiringJwtUtil.generateUserToken(user);
+
+        assertTrue(expiringJwtUtil.verifyToken(token).isEmpty());
+    }
+
+    @Test
+    void generateUserRefreshToken_shouldCarryRefreshUseAndUniqueId() {
+        Claims access = jwtUtil.verifyToken(jwtUtil.generateUserToken(user)).orElseThrow();
+        Claims refresh = jwtUtil.verifyToken(jwtUtil.generateUserRefreshToken(1L, "test@example.com")).orElseThrow();
+
+        assertTrue(JwtUtil.isAccessToken(access));
+        assertFalse(JwtUtil.isRefreshToken(access));
+        assertTrue(JwtUtil.isRefreshToken(refresh));
+        assertTrue(refresh.getExpiration().after(access.getExpiration()));
+        assertFalse(access.getId().equals(refresh.getId()));
+    }
+
+    @Test
+    void refreshTokens_shouldStartAFamilyAtLoginAndKeepItOnRotation() {
+        Claims first = jwtUtil.verifyToken(jwtUtil.generateUserRefreshToken(1L, "test@example.com")).orElseThrow();
+        Claims rotated = jwtUtil.verifyToken(
+                jwtUtil.generateUserRefreshToken(1L, "test@example.com", JwtUtil.familyOf(first))).orElseThrow();
+        Claims otherLogin = jwtUtil.verifyToken(jwtUtil.generateUserRefreshToken(1L, "test@example.com")).orElseThrow();
+
+        assertEquals(JwtUtil.familyOf(first), JwtUtil.familyOf(rotated));
+        assertNotEquals(JwtUtil.familyOf(first), JwtUtil.familyOf(otherLogin));
+    }
+
+    private JwtUtil createJwtUtil(VerifiedClaimsCache cache, long expiration) {
+        JwtUtil util = new JwtUtil(cache);
+        ReflectionTestUtils.setField(util, "secretKey", "TestSecretKeyForJWTMustBeLongEnough256Bits");
+        ReflectionTestUtils.setField(util, "jwtExpiration", expiration);
+        ReflectionTestUtils.setField(util, "refreshExpiration", 600_000L);
+        util.init();
+        return util;
+    }
+}
@@ -0,0 +1,57 @@
+package com.elzozcode.job_tracker.security;
+
+import com.elzozcode.job_tracker.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoginThrottleTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void acquire_overEmailLimit_shouldRejectWithRetryAfter() {
+        LoginThrottle throttle = createThrottle(2, 100);
+
+        throttle.acquire("user@example.com", "10.0.0.1");
+        throttle.acquire("USER@example.com", "10.0.0.2");
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> throttle.acquire("user@example.com", "10.0.0.3"));
+
+        assertTrue(ex.getRetryAfterSeconds() >= 1);
+        assertEquals(1.0, meterRegistry.get("auth.login_throttle.decisions")
+                .tag("result", "rejected_email").counter().count());
+    }
+
+    @Test
+    void acquire_overIpLimit_shouldRejectAcrossEmails() {
+        LoginThrottle throttle = createThrottle(100, 2);
+
+        throttle.acquire("a@example.com", "10.0.0.1");
+        throttle.acquire("b@example.com", "10.0.0.1");
+
+        assertThrows(TooManyRequestsException.class, () -> throttle.acquire("c@example.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> throttle.acquire("c@example.com", "10.0.0.2"));
+    }
+
+    @Test
+    void tokenBucket_shouldRefillOverTime() {
+        TokenBucket bucket = new TokenBucket(1, 60, 0);
+
+        assertEquals(0, bucket.tryConsume(0));
+        assertTrue(bucket.tryConsume(0) > 0);
+        assertEquals(0, bucket.tryConsume(Duration.ofSeconds(1).toNanos()));
+    }
+
+    private LoginThrottle createThrottle(long emailCapacity, long ipCapacity) {
+        return new LoginThrottle(meterRegistry, true, emailCapacity, 1, ipCapacity, 1,
+                Duration.ofMinutes(15), 1_000);
+    }
+}
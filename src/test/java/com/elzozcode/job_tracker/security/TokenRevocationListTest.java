@@ -0,0 +1,77 @@
+package com.elzozcode.job_tracker.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenRevocationListTest {
+
+    private final TokenRevocationList revocationList = new TokenRevocationList(new SimpleMeterRegistry());
+
+    @Test
+    void revoke_shouldOnlySucceedOnce() {
+        Claims claims = claims(System.currentTimeMillis() + 60_000);
+
+        assertFalse(revocationList.isRevoked(claims));
+        assertTrue(revocationList.revoke(claims));
+        assertFalse(revocationList.revoke(claims));
+        assertTrue(revocationList.isRevoked(claims));
+    }
+
+    @Test
+    void purgeExpired_shouldDropOnlyExpiredBuckets() {
+        revocationList.revoke(claims(System.currentTimeMillis() - 120_000));
+        revocationList.revoke(claims(System.currentTimeMillis() + 120_000));
+
+        revocationList.purgeExpired();
+
+        assertEquals(1, revocationList.size());
+    }
+
+    @Test
+    void revokeFamily_shouldRevokeEveryTokenOfTheFamilyUntilItExpires() {
+        Claims replayed = claims(System.currentTimeMillis() + 60_000, "family-1");
+        Claims rotated = claims(System.currentTimeMillis() + 120_000, "family-1");
+
+        revocationList.revokeFamily(replayed, new Date(System.currentTimeMillis() + 120_000));
+
+        assertTrue(revocationList.isFamilyRevoked(rotated));
+        assertFalse(revocationList.isFamilyRevoked(claims(System.currentTimeMillis() + 60_000, "family-2")));
+
+        revocationList.revokeFamily(claims(0, "family-3"), new Date(System.currentTimeMillis() - 1));
+        revocationList.purgeExpired();
+        assertEquals(1, revocationList.size());
+    }
+
+    @Test
+    void isRevoked_tokenWithoutId_shouldBeTreatedAsRevoked() {
+        Claims claims = Jwts.claims()
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .build();
+
+        assertTrue(revocationList.isRevoked(claims));
+    }
+
+    private Claims claims(long expiresAtMillis) {
+        return Jwts.claims()
+                .id(UUID.randomUUID().toString())
+                .expiration(new Date(expiresAtMillis))
+                .build();
+    }
+
+    private Claims claims(long expiresAtMillis, String family) {
+        return Jwts.claims()
+                .id(UUID.randomUUID().toString())
+                .expiration(new Date(expiresAtMillis))
+                .add(JwtUtil.FAMILY_CLAIM, family)
+                .build();
+    }
+}
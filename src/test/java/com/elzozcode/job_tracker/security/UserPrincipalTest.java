@@ -0,0 +1,32 @@
+package com.elzozcode.job_tracker.security;
+
+import com.elzozcode.job_tracker.entity.enums.Role;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserPrincipalTest {
+
+    @Test
+    void roleFlags_shouldMatchRole() {
+        UserPrincipal user = new UserPrincipal(1L, "user@example.com", Role.ROLE_USER, null);
+        UserPrincipal company = new UserPrincipal(2L, "company@example.com", Role.ROLE_COMPANY, 2L);
+
+        assertTrue(user.isUser());
+        assertFalse(user.isCompany());
+        assertTrue(company.isCompany());
+        assertFalse(company.isUser());
+    }
+
+    @Test
+    void getAuthorities_shouldShareInstancesPerRole() {
+        UserPrincipal first = new UserPrincipal(1L, "a@example.com", Role.ROLE_USER, null);
+        UserPrincipal second = new UserPrincipal(2L, "b@example.com", Role.ROLE_USER, null);
+
+        assertSame(first.getAuthorities(), second.getAuthorities());
+        assertEquals("ROLE_USER", first.getAuthorities().iterator().next().getAuthority());
+    }
+}
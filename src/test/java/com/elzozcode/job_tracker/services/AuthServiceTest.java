@@ -1,22 +1,39 @@
 package com.elzozcode.job_tracker.services;
 
+import com.elzozcode.job_tracker.dtos.LoginDto;
+import com.elzozcode.job_tracker.dtos.RefreshTokenDto;
 import com.elzozcode.job_tracker.dtos.RegisterDto;
 import com.elzozcode.job_tracker.entity.enums.UserType;
 import com.elzozcode.job_tracker.entity.Company;
 import com.elzozcode.job_tracker.entity.User;
+import com.elzozcode.job_tracker.exception.DuplicateResourceException;
+import com.elzozcode.job_tracker.exception.InvalidCredentialsException;
 import com.elzozcode.job_tracker.repositories.UserRepository;
 import com.elzozcode.job_tracker.repositories.CompanyRepository;
+import com.elzozcode.job_tracker.repositories.projections.AccountCredentials;
 import com.elzozcode.job_tracker.security.JwtUtil;
+import com.elzozcode.job_tracker.security.TokenRevocationList;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Optional;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +51,15 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private RegisteredEmailIndex registeredEmailIndex;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    @Mock
+    private CompanySuggestionIndex companySuggestionIndex;
+
     @InjectMocks
     private AuthService authService;
 
@@ -66,20 +92,24 @@ class AuthServiceTest {
                 .fullName(userRegisterDto.getFullName())
                 .build();
 
-        when(userRepository.existsUsersByEmail(userRegisterDto.getEmail()))
+        when(registeredEmailIndex.isRegistered(userRegisterDto.getEmail()))
                 .thenReturn(false);
         when(passwordEncoder.encode(userRegisterDto.getPassword()))
                 .thenReturn("encoded");
         when(userRepository.save(any(User.class)))
                 .thenReturn(savedUser);
-        when(jwtUtil.generateUserToken(any(User.class)))
+        when(jwtUtil.generateUserToken(1L, savedUser.getEmail()))
                 .thenReturn("jwt-token");
+        when(jwtUtil.generateUserRefreshToken(1L, savedUser.getEmail()))
+                .thenReturn("refresh-token");
 
         var response = authService.register(userRegisterDto);
 
         assertEquals("USER", response.getType());
         assertEquals(savedUser.getEmail(), response.getEmail());
         assertEquals(savedUser.getFullName(), response.getName());
+        assertEquals("refresh-token", response.getRefreshToken());
+        verify(registeredEmailIndex).add(savedUser.getEmail());
     }
 
     @Test
@@ -91,19 +121,127 @@ class AuthServiceTest {
                 .email(companyRegisterDto.getEmail())
                 .build();
 
-        when(companyRepository.existsCompanyByEmail(companyRegisterDto.getEmail()))
+        when(registeredEmailIndex.isRegistered(companyRegisterDto.getEmail()))
                 .thenReturn(false);
         when(passwordEncoder.encode(companyRegisterDto.getPassword()))
                 .thenReturn("encoded");
         when(companyRepository.save(any(Company.class)))
                 .thenReturn(savedCompany);
-        when(jwtUtil.generateCompanyToken(any(Company.class)))
+        when(jwtUtil.generateCompanyToken(2L, savedCompany.getEmail()))
                 .thenReturn("jwt-token");
+        when(jwtUtil.generateCompanyRefreshToken(2L, savedCompany.getEmail()))
+                .thenReturn("refresh-token");
 
         var response = authService.register(companyRegisterDto);
 
         assertEquals("COMPANY", response.getType());
         assertEquals(savedCompany.getEmail(), response.getEmail());
         assertEquals(savedCompany.getName(), response.getName());
+        verify(companySuggestionIndex).put(2L, savedCompany.getName(), null);
+    }
+
+    @Test
+    void register_registeredEmail_shouldThrowDuplicateResourceException() {
+
+        when(registeredEmailIndex.isRegistered(userRegisterDto.getEmail()))
+                .thenReturn(true);
+
+        assertThrows(DuplicateResourceException.class, () -> authService.register(userRegisterDto));
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void register_emailTakenElsewhere_shouldThrowDuplicateResourceException() {
+
+        // The filter missed, but another node or the other account table already holds the email
+        when(registeredEmailIndex.isRegistered(companyRegisterDto.getEmail()))
+                .thenReturn(false);
+        when(passwordEncoder.encode(companyRegisterDto.getPassword()))
+                .thenReturn("encoded");
+        when(companyRepository.save(any(Company.class)))
+                .thenThrow(new DataIntegrityViolationException("account_emails_pkey"));
+
+        assertThrows(DuplicateResourceException.class, () -> authService.register(companyRegisterDto));
+        verify(registeredEmailIndex, never()).add(any());
+    }
+
+    @Test
+    void login_company_shouldResolveAccountWithSingleLookup() {
+
+        AccountCredentials account = mock(AccountCredentials.class);
+        when(account.getId()).thenReturn(2L);
+        when(account.getEmail()).thenReturn("company@example.com");
+        when(account.getPassword()).thenReturn("encoded");
+        when(account.getName()).thenReturn("Test Company");
+        when(account.getType()).thenReturn("COMPANY");
+
+        when(userRepository.findAccountByEmail("company@example.com"))
+                .thenReturn(Optional.of(account));
+        when(passwordEncoder.matches("password", "encoded"))
+                .thenReturn(true);
+        when(jwtUtil.generateCompanyToken(2L, "company@example.com"))
+                .thenReturn("jwt-token");
+        when(jwtUtil.generateCompanyRefreshToken(2L, "company@example.com"))
+                .thenReturn("refresh-token");
+
+        var response = authService.login(new LoginDto("company@example.com", "password"));
+
+        assertEquals("COMPANY", response.getType());
+        assertEquals("Test Company", response.getName());
+        assertEquals("jwt-token", response.getToken());
+        verify(companyRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    void refresh_validRefreshToken_shouldRotateTokens() {
+
+        Claims claims = refreshClaims();
+        when(jwtUtil.verifyToken("old-refresh")).thenReturn(Optional.of(claims));
+        when(tokenRevocationList.revoke(claims)).thenReturn(true);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(User.builder().id(1L).fullName("Test User").build()));
+        when(jwtUtil.generateUserToken(1L, "test@example.com")).thenReturn("jwt-token");
+        when(jwtUtil.generateUserRefreshToken(1L, "test@example.com", "family-1")).thenReturn("new-refresh");
+
+        var response = authService.refresh(new RefreshTokenDto("old-refresh"));
+
+        assertEquals("jwt-token", response.getToken());
+        assertEquals("new-refresh", response.getRefreshToken());
+        assertEquals("Test User", response.getName());
+    }
+
+    @Test
+    void refresh_reusedRefreshToken_shouldThrowInvalidCredentialsException() {
+
+        Claims claims = refreshClaims();
+        when(jwtUtil.verifyToken("old-refresh")).thenReturn(Optional.of(claims));
+        when(tokenRevocationList.revoke(claims)).thenReturn(false);
+
+        assertThrows(InvalidCredentialsException.class,
+                () -> authService.refresh(new RefreshTokenDto("old-refresh")));
+        verify(tokenRevocationList).revokeFamily(eq(claims), any());
+        verify(jwtUtil, never()).generateUserRefreshToken(any(), any(), any());
+    }
+
+    @Test
+    void refresh_tokenOfRevokedFamily_shouldThrowInvalidCredentialsException() {
+
+        Claims claims = refreshClaims();
+        when(jwtUtil.verifyToken("old-refresh")).thenReturn(Optional.of(claims));
+        when(tokenRevocationList.isFamilyRevoked(claims)).thenReturn(true);
+
+        assertThrows(InvalidCredentialsException.class,
+                () -> authService.refresh(new RefreshTokenDto("old-refresh")));
+        verify(tokenRevocationList, never()).revoke(any());
+    }
+
+    private Claims refreshClaims() {
+        return Jwts.claims()
+                .id(UUID.randomUUID().toString())
+                .subject("test@example.com")
+                .add(JwtUtil.FAMILY_CLAIM, "family-1")
+                .add("userId", 1L)
+                .add("type", "USER")
+                .add(JwtUtil.TOKEN_USE_CLAIM, JwtUtil.REFRESH_TOKEN)
+                .build();
     }
 }
@@ -0,0 +1,51 @@
+package com.elzozcode.job_tracker.services;
+
+import com.elzozcode.job_tracker.dtos.response.CompanySuggestion;
+import com.elzozcode.job_tracker.repositories.CompanyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class CompanySuggestionIndexTest {
+
+    private CompanySuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CompanySuggestionIndex(mock(CompanyRepository.class));
+        index.put(1L, "Acme Software", "Software");
+        index.put(2L, "Globex", "Software");
+        index.put(3L, "Acme Logistics", "Logistics");
+    }
+
+    @Test
+    void suggest_shouldMatchNamesWordsAndIndustriesByPrefix() {
+        List<CompanySuggestion> suggestions = index.suggest("soft", 10);
+
+        assertEquals(List.of(
+                new CompanySuggestion("Acme Software", CompanySuggestion.COMPANY, 1L),
+                new CompanySuggestion("Software", CompanySuggestion.INDUSTRY, null)
+        ), suggestions);
+    }
+
+    @Test
+    void suggest_shouldRespectLimit() {
+        assertEquals(1, index.suggest("ACME", 1).size());
+        assertEquals(2, index.suggest("acme", 10).size());
+    }
+
+    @Test
+    void putAndRemove_shouldUpdateIndexIncrementally() {
+        index.put(1L, "Initech", "Consulting");
+        index.remove(2L);
+
+        assertTrue(index.suggest("acme s", 10).isEmpty());
+        assertTrue(index.suggest("soft", 10).isEmpty());
+        assertEquals(1, index.suggest("init", 10).size());
+    }
+}
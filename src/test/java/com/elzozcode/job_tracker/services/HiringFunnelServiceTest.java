@@ -0,0 +1,109 @@
+package com.elzozcode.job_tracker.services;
+
+import com.elzozcode.job_tracker.dtos.response.HiringFunnelResponse;
+import com.elzozcode.job_tracker.dtos.response.HiringFunnelResponse.StageConversion;
+import com.elzozcode.job_tracker.entity.Company;
+import com.elzozcode.job_tracker.entity.Job;
+import com.elzozcode.job_tracker.entity.enums.ApplicationStatus;
+import com.elzozcode.job_tracker.entity.enums.Role;
+import com.elzozcode.job_tracker.exception.UnauthorizedException;
+import com.elzozcode.job_tracker.repositories.HiringFunnelRepository;
+import com.elzozcode.job_tracker.repositories.HiringFunnelRepository.InterviewTiming;
+import com.elzozcode.job_tracker.repositories.JobRepository;
+import com.elzozcode.job_tracker.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.elzozcode.job_tracker.support.TestSecurity.authenticate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HiringFunnelServiceTest {
+
+    @Mock
+    private HiringFunnelRepository hiringFunnelRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @InjectMocks
+    private HiringFunnelService hiringFunnelService;
+
+    @BeforeEach
+    void setUp() {
+        UserPrincipal principal = new UserPrincipal(2L, "company@example.com", Role.ROLE_COMPANY, 7L);
+        authenticate(principal);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void toFunnel_shouldCountLaterStagesAsHavingPassedEarlierOnes() {
+        Map<ApplicationStatus, Long> counts = counts();
+        counts.put(ApplicationStatus.APPLIED, 4L);
+        counts.put(ApplicationStatus.PHONE_SCREEN, 2L);
+        counts.put(ApplicationStatus.INTERVIEW, 1L);
+        counts.put(ApplicationStatus.OFFER, 1L);
+        counts.put(ApplicationStatus.REJECTED, 2L);
+
+        HiringFunnelResponse funnel = HiringFunnelService.toFunnel(counts, new InterviewTiming(3, 6.25));
+
+        assertEquals(10L, funnel.getTotal());
+        assertEquals(List.of(
+                new StageConversion(ApplicationStatus.APPLIED, ApplicationStatus.PHONE_SCREEN, 4, 0.4),
+                new StageConversion(ApplicationStatus.PHONE_SCREEN, ApplicationStatus.INTERVIEW, 2, 0.5),
+                new StageConversion(ApplicationStatus.INTERVIEW, ApplicationStatus.OFFER, 1, 0.5),
+                new StageConversion(ApplicationStatus.OFFER, ApplicationStatus.ACCEPTED, 0, 0.0)
+        ), funnel.getConversions());
+        assertEquals(3L, funnel.getInterviewed());
+        assertEquals(6.3, funnel.getMedianDaysToFirstInterview());
+    }
+
+    @Test
+    void toFunnel_withoutApplications_shouldLeaveRatesUndefined() {
+        HiringFunnelResponse funnel = HiringFunnelService.toFunnel(counts(), new InterviewTiming(0, null));
+
+        assertEquals(0L, funnel.getTotal());
+        funnel.getConversions().forEach(conversion -> assertNull(conversion.rate()));
+        assertNull(funnel.getMedianDaysToFirstInterview());
+    }
+
+    @Test
+    void getJobFunnel_jobOfAnotherCompany_shouldThrowUnauthorized() {
+        Company other = new Company();
+        other.setId(8L);
+        Job job = new Job();
+        job.setId(3L);
+        job.setCompany(other);
+        when(jobRepository.findById(3L)).thenReturn(Optional.of(job));
+
+        assertThrows(UnauthorizedException.class, () -> hiringFunnelService.getJobFunnel(3L));
+        verifyNoInteractions(hiringFunnelRepository);
+    }
+
+    private static Map<ApplicationStatus, Long> counts() {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            counts.put(status, 0L);
+        }
+        return counts;
+    }
+}
@@ -1,6 +1,7 @@
 package com.elzozcode.job_tracker.services;
 
 import com.elzozcode.job_tracker.entity.*;
+import com.elzozcode.job_tracker.entity.enums.Role;
 import com.elzozcode.job_tracker.exception.UnauthorizedException;
 import com.elzozcode.job_tracker.repositories.InterviewRepository;
 import com.elzozcode.job_tracker.repositories.JobApplicationRepository;
@@ -40,8 +41,8 @@ public class InterviewServicesTest {
 
     @BeforeEach
     void setUp() {
-        userPrincipal = new UserPrincipal(1L, "testuser", "ROLE_USER", null);
-        companyPrincipal = new UserPrincipal(2L, "companyuser", "ROLE_COMPANY", 1L);
+        userPrincipal = new UserPrincipal(1L, "testuser", Role.ROLE_USER, null);
+        companyPrincipal = new UserPrincipal(2L, "companyuser", Role.ROLE_COMPANY, 1L);
 
         User user = new User();
         user.setId(1L);
@@ -68,7 +69,7 @@ public class InterviewServicesTest {
 
     @Test
     void getInterviewById_withDifferentUserId_shouldThrowUnauthorizedException() {
-        userPrincipal = new UserPrincipal(2L, "anotheruser", "ROLE_USER", null);
+        userPrincipal = new UserPrincipal(2L, "anotheruser", Role.ROLE_USER, null);
         Authentication authentication = mock(Authentication.class);
         when(SecurityContextHolder.getContext().getAuthentication()).thenReturn(authentication);
         when(authentication.getPrincipal()).thenReturn(userPrincipal);
@@ -80,7 +81,7 @@ public class InterviewServicesTest {
 
     @Test
     void getInterviewById_withDifferentCompanyId_shouldThrowUnauthorizedException() {
-        companyPrincipal = new UserPrincipal(3L, "anothercompany", "ROLE_COMPANY", 2L);
+        companyPrincipal = new UserPrincipal(3L, "anothercompany", Role.ROLE_COMPANY, 2L);
         Authentication authentication = mock(Authentication.class);
         when(SecurityContextHolder.getContext().getAuthentication()).thenReturn(authentication);
         when(authentication.getPrincipal()).thenReturn(companyPrincipal);
@@ -0,0 +1,75 @@
+package com.elzozcode.job_tracker.services;
+
+import com.elzozcode.job_tracker.repositories.DenormalizationOutboxRepository;
+import com.elzozcode.job_tracker.repositories.DenormalizationOutboxRepository.OutboxEvent;
+import com.elzozcode.job_tracker.repositories.JobApplicationCopyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobApplicationCopyPropagatorTest {
+
+    @Mock
+    private DenormalizationOutboxRepository outboxRepository;
+
+    @Mock
+    private JobApplicationCopyRepository copyRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private JobApplicationCopyPropagator propagator;
+
+    @BeforeEach
+    void setUp() {
+        propagator = new JobApplicationCopyPropagator(outboxRepository, copyRepository, transactionTemplate);
+        ReflectionTestUtils.setField(propagator, "batchSize", 10);
+        ReflectionTestUtils.setField(propagator, "chunkSize", 2);
+        ReflectionTestUtils.setField(propagator, "leaseSeconds", 60L);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void propagateBatch_shouldCoalesceEditsAndRefreshInChunksUntilNothingIsStale() {
+        when(outboxRepository.claim(10, Duration.ofSeconds(60))).thenReturn(List.of(
+                new OutboxEvent(1L, DenormalizationOutboxRepository.JOB, 5L),
+                new OutboxEvent(2L, DenormalizationOutboxRepository.JOB, 5L),
+                new OutboxEvent(3L, DenormalizationOutboxRepository.COMPANY, 7L)));
+        when(copyRepository.refreshChunk(Set.of(5L), Set.of(7L), 2)).thenReturn(2, 2, 1);
+        doCallRealMethod().when(transactionTemplate).executeWithoutResult(any());
+
+        assertEquals(3, propagator.propagateBatch());
+
+        verify(copyRepository, times(3)).refreshChunk(Set.of(5L), Set.of(7L), 2);
+        verify(outboxRepository).delete(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void propagateBatch_emptyOutbox_shouldNotTouchApplications() {
+        when(outboxRepository.claim(10, Duration.ofSeconds(60))).thenReturn(List.of());
+
+        assertEquals(0, propagator.propagateBatch());
+
+        verifyNoInteractions(copyRepository);
+    }
+}
@@ -0,0 +1,136 @@
+package com.elzozcode.job_tracker.services;
+
+import com.elzozcode.job_tracker.entity.Company;
+import com.elzozcode.job_tracker.entity.Job;
+import com.elzozcode.job_tracker.entity.enums.ApplicationStatus;
+import com.elzozcode.job_tracker.entity.enums.Role;
+import com.elzozcode.job_tracker.exception.UnauthorizedException;
+import com.elzozcode.job_tracker.repositories.JobApplicationExportRepository;
+import com.elzozcode.job_tracker.repositories.JobRepository;
+import com.elzozcode.job_tracker.repositories.projections.JobApplicationView;
+import com.elzozcode.job_tracker.security.UserPrincipal;
+import com.elzozcode.job_tracker.services.JobApplicationExportService.Format;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Stubber;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static com.elzozcode.job_tracker.support.TestSecurity.authenticate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobApplicationExportServiceTest {
+
+    @Mock
+    private JobApplicationExportRepository exportRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JobApplicationExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new JobApplicationExportService(exportRepository, jobRepository,
+                JsonMapper.builder().build(), new TransactionTemplate(transactionManager));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void exportForCurrentUser_shouldStreamOnlyTheUsersRowsInAReadOnlyTransaction() throws IOException {
+        authenticate(new UserPrincipal(1L, "user@example.com", Role.ROLE_USER, null));
+        emitRows().when(exportRepository).streamByUserId(eq(1L), any());
+
+        String body = export(exportService.exportForCurrentUser(Format.CSV));
+
+        String[] lines = body.split("\r\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("id,userId,companyName,jobTitle"));
+        assertTrue(lines[1].startsWith("10,1,Acme,Java Developer,"));
+        assertTrue(lines[2].contains(",'=cmd(),"));
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertTrue(definition.getValue().isReadOnly());
+        verify(exportRepository, never()).streamByJobId(any(), any());
+    }
+
+    @Test
+    void exportForCurrentUser_ndjson_shouldWriteOneObjectPerLine() throws IOException {
+        authenticate(new UserPrincipal(1L, "user@example.com", Role.ROLE_USER, null));
+        emitRows().when(exportRepository).streamByUserId(eq(1L), any());
+
+        String body = export(exportService.exportForCurrentUser(Format.NDJSON));
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":10,"));
+        assertTrue(lines[1].contains("\"notes\":\"=cmd()\""));
+    }
+
+    @Test
+    void exportForJob_ofAnotherCompany_shouldThrowBeforeStreaming() {
+        authenticate(new UserPrincipal(2L, "company@example.com", Role.ROLE_COMPANY, 7L));
+        Company other = new Company();
+        other.setId(8L);
+        Job job = new Job();
+        job.setCompany(other);
+        when(jobRepository.findById(3L)).thenReturn(Optional.of(job));
+
+        assertThrows(UnauthorizedException.class, () -> exportService.exportForJob(3L, Format.CSV));
+        verifyNoInteractions(exportRepository);
+    }
+
+    private static String export(StreamingResponseBody body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Stubber emitRows() {
+        return doAnswer(invocation -> {
+            Consumer<JobApplicationView> consumer = invocation.getArgument(1);
+            consumer.accept(view(10L, "Acme", null));
+            consumer.accept(view(11L, "Globex", "=cmd()"));
+            return null;
+        });
+    }
+
+    private static JobApplicationView view(Long id, String companyName, String notes) {
+        return new JobApplicationView(id, 1L, companyName, "Java Developer", null, LocalDate.of(2026, 3, 1),
+                ApplicationStatus.APPLIED, null, null, null, null, notes, null, null, null, null, null);
+    }
+}
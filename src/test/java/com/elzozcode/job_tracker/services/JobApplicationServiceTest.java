@@ -1,28 +1,41 @@
 package com.elzozcode.job_tracker.services;
 
+import com.elzozcode.job_tracker.dtos.JobApplicationDto;
+import com.elzozcode.job_tracker.dtos.response.ApplicationStatsResponse;
 import com.elzozcode.job_tracker.entity.Company;
 import com.elzozcode.job_tracker.entity.Job;
 import com.elzozcode.job_tracker.entity.JobApplication;
 import com.elzozcode.job_tracker.entity.User;
+import com.elzozcode.job_tracker.entity.enums.ApplicationStatus;
+import com.elzozcode.job_tracker.entity.enums.Role;
 import com.elzozcode.job_tracker.exception.UnauthorizedException;
 import com.elzozcode.job_tracker.repositories.JobApplicationRepository;
 import com.elzozcode.job_tracker.repositories.JobRepository;
+import com.elzozcode.job_tracker.repositories.UserApplicationStatsRepository;
+import com.elzozcode.job_tracker.repositories.UserRepository;
 import com.elzozcode.job_tracker.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
 
+import static com.elzozcode.job_tracker.support.TestSecurity.authenticate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
-import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 public class JobApplicationServiceTest {
@@ -33,20 +46,25 @@ public class JobApplicationServiceTest {
     @Mock
     private JobRepository jobRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserApplicationStatsRepository userApplicationStatsRepository;
+
     @InjectMocks
     private JobApplicationService jobApplicationService;
 
     private UserPrincipal userPrincipal;
-    private UserPrincipal companyPrincipal;
+    private User user;
     private JobApplication jobApplication;
     private Job job;
 
     @BeforeEach
     void setUp() {
-        userPrincipal = new UserPrincipal(1L, "testuser", "ROLE_USER", null);
-        companyPrincipal = new UserPrincipal(2L, "companyuser", "ROLE_COMPANY", 1L);
+        userPrincipal = new UserPrincipal(1L, "testuser", Role.ROLE_USER, null);
 
-        User user = new User();
+        user = new User();
         user.setId(1L);
 
         Company company = new Company();
@@ -56,23 +74,22 @@ public class JobApplicationServiceTest {
         job.setCompany(company);
 
         jobApplication = new JobApplication();
+        jobApplication.setId(5L);
         jobApplication.setUser(user);
         jobApplication.setJob(job);
+        jobApplication.setStatus(ApplicationStatus.APPLIED);
 
+        authenticate(userPrincipal);
+    }
 
-        Authentication authentication = mock(Authentication.class);
-        SecurityContext securityContext = mock(SecurityContext.class);
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        SecurityContextHolder.setContext(securityContext);
-        when(authentication.getPrincipal()).thenReturn(userPrincipal);
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
     }
 
     @Test
     void getJobApplicationById_withDifferentUserId_shouldThrowUnauthorizedException() {
-        userPrincipal = new UserPrincipal(2L, "anotheruser", "ROLE_USER", null);
-        Authentication authentication = mock(Authentication.class);
-        when(SecurityContextHolder.getContext().getAuthentication()).thenReturn(authentication);
-        when(authentication.getPrincipal()).thenReturn(userPrincipal);
+        authenticate(new UserPrincipal(2L, "anotheruser", Role.ROLE_USER, null));
 
         when(jobApplicationRepository.findById(1L)).thenReturn(Optional.of(jobApplication));
 
@@ -81,13 +98,65 @@ public class JobApplicationServiceTest {
 
     @Test
     void getJobApplicationsByJobId_withDifferentCompanyId_shouldThrowUnauthorizedException() {
-        companyPrincipal = new UserPrincipal(2L, "anothercompany", "ROLE_COMPANY", 2L);
-        Authentication authentication = mock(Authentication.class);
-        when(SecurityContextHolder.getContext().getAuthentication()).thenReturn(authentication);
-        when(authentication.getPrincipal()).thenReturn(companyPrincipal);
+        authenticate(new UserPrincipal(2L, "anothercompany", Role.ROLE_COMPANY, 2L));
 
         when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
 
         assertThrows(UnauthorizedException.class, () -> jobApplicationService.getJobApplicationsByJobId(1L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void update_statusChange_shouldMoveOneCountBetweenStatuses() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(jobApplicationRepository.findByIdForUpdate(5L)).thenReturn(Optional.of(jobApplication));
+        when(jobApplicationRepository.save(any(JobApplication.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        jobApplicationService.update(5L, dto(ApplicationStatus.INTERVIEW));
+
+        verify(userApplicationStatsRepository).increment(1L, ApplicationStatus.APPLIED, -1);
+        verify(userApplicationStatsRepository).increment(1L, ApplicationStatus.INTERVIEW, 1);
+    }
+
+    @Test
+    void update_sameStatus_shouldLeaveCountersAlone() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(jobApplicationRepository.findByIdForUpdate(5L)).thenReturn(Optional.of(jobApplication));
+        when(jobApplicationRepository.save(any(JobApplication.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        jobApplicationService.update(5L, dto(ApplicationStatus.APPLIED));
+
+        verifyNoInteractions(userApplicationStatsRepository);
+    }
+
+    @Test
+    void delete_shouldDecrementItsStatus() {
+        when(jobApplicationRepository.findByIdForUpdate(5L)).thenReturn(Optional.of(jobApplication));
+
+        jobApplicationService.delete(5L);
+
+        verify(userApplicationStatsRepository).increment(1L, ApplicationStatus.APPLIED, -1);
+        verifyNoMoreInteractions(userApplicationStatsRepository);
+    }
+
+    @Test
+    void getStats_shouldSumAllStatuses() {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        counts.put(ApplicationStatus.APPLIED, 3L);
+        counts.put(ApplicationStatus.OFFER, 1L);
+        when(userApplicationStatsRepository.findCountsByUserId(1L)).thenReturn(counts);
+
+        ApplicationStatsResponse stats = jobApplicationService.getStats();
+
+        assertEquals(4L, stats.getTotal());
+        assertEquals(3L, stats.getByStatus().get(ApplicationStatus.APPLIED));
+    }
+
+    private static JobApplicationDto dto(ApplicationStatus status) {
+        JobApplicationDto dto = new JobApplicationDto();
+        dto.setCompanyName("Acme");
+        dto.setJobTitle("Engineer");
+        dto.setApplicationDate(LocalDate.now());
+        dto.setStatus(status);
+        return dto;
+    }
+}
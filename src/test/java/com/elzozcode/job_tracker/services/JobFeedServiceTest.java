@@ -0,0 +1,176 @@
+package com.elzozcode.job_tracker.services;
+
+import com.elzozcode.job_tracker.dtos.response.JobFeedSyncResponse;
+import com.elzozcode.job_tracker.entity.Job;
+import com.elzozcode.job_tracker.entity.enums.Role;
+import com.elzozcode.job_tracker.exception.InvalidRequestException;
+import com.elzozcode.job_tracker.repositories.DenormalizationOutboxRepository;
+import com.elzozcode.job_tracker.repositories.JobFeedRepository;
+import com.elzozcode.job_tracker.repositories.JobFeedRepository.ExistingJob;
+import com.elzozcode.job_tracker.repositories.JobFeedRepository.FeedRow;
+import com.elzozcode.job_tracker.security.UserPrincipal;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static com.elzozcode.job_tracker.support.TestSecurity.authenticate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobFeedServiceTest {
+
+    @Mock
+    private JobFeedRepository jobFeedRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache entityCache;
+
+    @Mock
+    private DenormalizationOutboxRepository outboxRepository;
+
+    private JobFeedService jobFeedService;
+
+    @BeforeEach
+    void setUp() {
+        jobFeedService = new JobFeedService(jobFeedRepository, JsonMapper.builder().build(), transactionTemplate, entityManagerFactory, outboxRepository);
+        ReflectionTestUtils.setField(jobFeedService, "maxRecords", 100);
+
+        UserPrincipal company = new UserPrincipal(7L, "hr@acme.example", Role.ROLE_COMPANY, 7L);
+        authenticate(company);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void sync_shouldWriteOnlyNewAndChangedPostingsAndDeactivateMissingOnes() {
+        String unchangedHash = JobFeedService.contentHash(JobFeedService.toItem(
+                Map.of("jobUrl", "https://acme.example/2", "jobTitle", "Tester")));
+        when(jobFeedRepository.findExistingByCompanyId(7L)).thenReturn(List.of(
+                new ExistingJob(2L, "https://acme.example/2", unchangedHash, true),
+                new ExistingJob(3L, "https://acme.example/3", "stale", true),
+                new ExistingJob(4L, "https://acme.example/4", "gone", true)));
+        when(jobFeedRepository.deactivate(7L, List.of(4L))).thenReturn(1);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(entityManagerFactory.getCache()).thenReturn(entityCache);
+
+        String feed = """
+                {"jobUrl": "https://acme.example/1", "jobTitle": "Java Developer", "jobType": "full-time"}
+                {"jobUrl": "https://acme.example/2", "jobTitle": "Tester"}
+                {"jobUrl": "https://acme.example/3", "jobTitle": "Designer", "salaryMin": 15000}
+                {"jobUrl": "https://acme.example/5"}
+                """;
+
+        JobFeedSyncResponse response = jobFeedService.sync(stream(feed), MediaType.APPLICATION_NDJSON);
+
+        assertEquals(4, response.getReceived());
+        assertEquals(1, response.getInserted());
+        assertEquals(1, response.getUpdated());
+        assertEquals(1, response.getUnchanged());
+        assertEquals(1, response.getDeactivated());
+        assertEquals(1, response.getSkipped());
+        assertEquals(List.of("Record 4: jobTitle is required"), response.getErrors());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FeedRow>> updates = ArgumentCaptor.forClass(List.class);
+        verify(jobFeedRepository).updateAll(updates.capture());
+        assertEquals(3L, updates.getValue().get(0).jobId());
+        verify(jobFeedRepository).insertAll(eq(7L), any());
+        verify(entityCache).evict(Job.class, 3L);
+        verify(entityCache).evict(Job.class, 4L);
+        verify(outboxRepository).enqueueJobs(List.of(3L));
+    }
+
+    @Test
+    void sync_postingsSharingAJobUrl_shouldKeepOneAndDeactivateTheOtherActiveOnes() {
+        String hash = JobFeedService.contentHash(JobFeedService.toItem(
+                Map.of("jobUrl", "https://acme.example/2", "jobTitle", "Tester")));
+        when(jobFeedRepository.findExistingByCompanyId(7L)).thenReturn(List.of(
+                new ExistingJob(2L, "https://acme.example/2", hash, true),
+                new ExistingJob(5L, "https://acme.example/2", "older", true),
+                new ExistingJob(6L, "https://acme.example/2", "older", false)));
+        when(jobFeedRepository.deactivate(7L, List.of(5L))).thenReturn(1);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(entityManagerFactory.getCache()).thenReturn(entityCache);
+
+        JobFeedSyncResponse response = jobFeedService.sync(
+                stream("{\"jobUrl\": \"https://acme.example/2\", \"jobTitle\": \"Tester\"}\n"),
+                MediaType.APPLICATION_NDJSON);
+
+        assertEquals(1, response.getUnchanged());
+        assertEquals(1, response.getDeactivated());
+        verify(entityCache).evict(Job.class, 5L);
+    }
+
+    @Test
+    void sync_afterAManualEdit_shouldRewriteThePostingFromTheSameFeed() {
+        // JobService.updateJob clears the hash when a company edits a feed posting by hand
+        when(jobFeedRepository.findExistingByCompanyId(7L)).thenReturn(List.of(
+                new ExistingJob(2L, "https://acme.example/2", null, true)));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(entityManagerFactory.getCache()).thenReturn(entityCache);
+
+        JobFeedSyncResponse response = jobFeedService.sync(
+                stream("{\"jobUrl\": \"https://acme.example/2\", \"jobTitle\": \"Tester\"}\n"),
+                MediaType.APPLICATION_NDJSON);
+
+        assertEquals(1, response.getUpdated());
+        assertEquals(0, response.getUnchanged());
+        verify(entityCache).evict(Job.class, 2L);
+    }
+
+    @Test
+    void sync_csvFeedWithoutJobUrlColumn_shouldThrowInvalidRequestException() {
+        assertThrows(InvalidRequestException.class,
+                () -> jobFeedService.sync(stream("jobTitle\nTester\n"), JobFeedService.TEXT_CSV));
+    }
+
+    @Test
+    void contentHash_shouldIgnoreSalaryScale() {
+        String plain = JobFeedService.contentHash(JobFeedService.toItem(
+                Map.of("jobUrl", "u", "jobTitle", "t", "salaryMin", "15000")));
+        String scaled = JobFeedService.contentHash(JobFeedService.toItem(
+                Map.of("jobUrl", "u", "jobTitle", "t", "salaryMin", "15000.00")));
+
+        assertEquals(plain, scaled);
+        assertTrue(plain.matches("[0-9a-f]{64}"));
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,25 +3,32 @@ package com.elzozcode.job_tracker.services;
 import com.elzozcode.job_tracker.dtos.JobDto;
 import com.elzozcode.job_tracker.entity.Company;
 import com.elzozcode.job_tracker.entity.Job;
+import com.elzozcode.job_tracker.entity.enums.Role;
 import com.elzozcode.job_tracker.exception.UnauthorizedException;
 import com.elzozcode.job_tracker.repositories.CompanyRepository;
+import com.elzozcode.job_tracker.repositories.DenormalizationOutboxRepository;
 import com.elzozcode.job_tracker.repositories.JobRepository;
+import com.elzozcode.job_tracker.repositories.UserApplicationStatsRepository;
 import com.elzozcode.job_tracker.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 
+import static com.elzozcode.job_tracker.support.TestSecurity.authenticate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.when;
-import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 public class JobServiceTest {
@@ -32,6 +39,12 @@ public class JobServiceTest {
     @Mock
     private CompanyRepository companyRepository;
 
+    @Mock
+    private UserApplicationStatsRepository userApplicationStatsRepository;
+
+    @Mock
+    private DenormalizationOutboxRepository outboxRepository;
+
     @InjectMocks
     private JobService jobService;
 
@@ -40,17 +53,18 @@ public class JobServiceTest {
 
     @BeforeEach
     void setUp() {
-        userPrincipal = new UserPrincipal(1L, "testuser", "ROLE_COMPANY", 1L);
+        userPrincipal = new UserPrincipal(1L, "testuser", Role.ROLE_COMPANY, 1L);
         Company company = new Company();
         company.setId(1L);
         job = new Job();
         job.setCompany(company);
 
-        Authentication authentication = mock(Authentication.class);
-        SecurityContext securityContext = mock(SecurityContext.class);
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        SecurityContextHolder.setContext(securityContext);
-        when(authentication.getPrincipal()).thenReturn(userPrincipal);
+        authenticate(userPrincipal);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
     }
 
     @Test
@@ -62,6 +76,38 @@ public class JobServiceTest {
         assertThrows(UnauthorizedException.class, () -> jobService.updateJob(1L, jobDto));
     }
 
+    @Test
+    void updateJob_editingAFeedField_shouldDropTheFeedHash() {
+        job.setJobTitle("Java Developer");
+        job.setSalaryMin(new BigDecimal("15000.00"));
+        job.setContentHash("feed-hash");
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(jobRepository.save(job)).thenReturn(job);
+        JobDto jobDto = new JobDto();
+        jobDto.setJobTitle("Senior Java Developer");
+
+        jobService.updateJob(1L, jobDto);
+
+        assertNull(job.getContentHash());
+    }
+
+    @Test
+    void updateJob_withUnchangedFeedFields_shouldKeepTheFeedHash() {
+        job.setJobTitle("Java Developer");
+        job.setSalaryMin(new BigDecimal("15000.00"));
+        job.setContentHash("feed-hash");
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(jobRepository.save(job)).thenReturn(job);
+        JobDto jobDto = new JobDto();
+        jobDto.setJobTitle("Java Developer");
+        jobDto.setSalaryMin(new BigDecimal("15000"));
+        jobDto.setIsActive(false);
+
+        jobService.updateJob(1L, jobDto);
+
+        assertEquals("feed-hash", job.getContentHash());
+    }
+
     @Test
     void deleteJob_withDifferentCompanyId_shouldThrowUnauthorizedException() {
         job.getCompany().setId(2L);
@@ -69,4 +115,15 @@ public class JobServiceTest {
 
         assertThrows(UnauthorizedException.class, () -> jobService.deleteJob(1L));
     }
+
+    @Test
+    void deleteJob_shouldTakeItsApplicationsOutOfTheStatsBeforeDeleting() {
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        jobService.deleteJob(1L);
+
+        InOrder order = inOrder(userApplicationStatsRepository, jobRepository);
+        order.verify(userApplicationStatsRepository).subtractApplicationsOfJob(1L);
+        order.verify(jobRepository).delete(job);
+    }
 }
@@ -0,0 +1,27 @@
+package com.elzozcode.job_tracker.support;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.testcontainers.DockerClientFactory;
+
+/**
+ * Skips Testcontainers tests on a machine without Docker, like
+ * {@code @Testcontainers(disabledWithoutDocker = true)}, but fails them on CI (the {@code CI}
+ * environment variable is {@code true}), so a runner without Docker cannot turn the build green by
+ * not running them. Add it with {@code @ExtendWith(DockerAvailableCondition.class)}.
+ */
+public class DockerAvailableCondition implements ExecutionCondition {
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        if (DockerClientFactory.instance().isDockerAvailable()) {
+            return ConditionEvaluationResult.enabled("Docker is available");
+        }
+        if ("true".equalsIgnoreCase(System.getenv("CI"))) {
+            throw new IllegalStateException("Docker is not available on this CI runner, so "
+                    + context.getDisplayName() + " cannot run");
+        }
+        return ConditionEvaluationResult.disabled("Docker is not available");
+    }
+}
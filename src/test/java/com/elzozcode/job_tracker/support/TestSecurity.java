@@ -0,0 +1,22 @@
+package com.elzozcode.job_tracker.support;
+
+import com.elzozcode.job_tracker.security.UserPrincipal;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+/**
+ * Signs a principal in for unit tests the way the JWT filter does, with an authenticated token,
+ * so {@code SecurityUtils} accepts it. Pair with {@link SecurityContextHolder#clearContext()} in
+ * {@code @AfterEach}.
+ */
+public final class TestSecurity {
+
+    private TestSecurity() {
+    }
+
+    public static void authenticate(UserPrincipal principal) {
+        SecurityContextHolder.setContext(new SecurityContextImpl(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())));
+    }
+}
@@ -0,0 +1,50 @@
+package com.elzozcode.job_tracker.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvReaderTest {
+
+    @Test
+    void next_shouldMapRecordsToHeaderColumns() {
+        CsvReader reader = new CsvReader(new StringReader(
+                "jobUrl, jobTitle ,location\r\n" +
+                        "https://a.example/1,Java Developer,Cairo\r\n" +
+                        "\r\n" +
+                        "https://a.example/2,Tester\n"));
+
+        assertEquals(List.of("jobUrl", "jobTitle", "location"), reader.getHeader());
+        assertEquals(Map.of("jobUrl", "https://a.example/1", "jobTitle", "Java Developer", "location", "Cairo"),
+                reader.next());
+
+        Map<String, String> second = reader.next();
+        assertEquals("Tester", second.get("jobTitle"));
+        assertNull(second.get("location"));
+        assertEquals(2, reader.getRecordNumber());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_quotedFields_shouldKeepSeparatorsQuotesAndLineBreaks() {
+        CsvReader reader = new CsvReader(new StringReader(
+                "jobUrl,description\n" +
+                        "https://a.example/1,\"Build \"\"fast\"\" APIs,\nship often\""));
+
+        assertEquals("Build \"fast\" APIs,\nship often", reader.next().get("description"));
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_unterminatedQuote_shouldThrowIllegalArgumentException() {
+        CsvReader reader = new CsvReader(new StringReader("jobUrl,description\nhttps://a.example/1,\"open"));
+
+        assertThrows(IllegalArgumentException.class, reader::next);
+    }
+}
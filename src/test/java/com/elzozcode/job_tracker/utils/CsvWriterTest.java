@@ -0,0 +1,48 @@
+package com.elzozcode.job_tracker.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvWriterTest {
+
+    @Test
+    void writeRecord_shouldQuoteOnlyWhenNeeded() throws IOException {
+        StringWriter out = new StringWriter();
+
+        new CsvWriter(out).writeRecord(1L, "Acme", null, "Java, Spring", "say \"hi\"");
+
+        assertEquals("1,Acme,,\"Java, Spring\",\"say \"\"hi\"\"\"\r\n", out.toString());
+    }
+
+    @Test
+    void writeRecord_formulaLikeText_shouldBeNeutralised() {
+        assertEquals("\"'=HYPERLINK(\"\"x\"\")\"", CsvWriter.escape("=HYPERLINK(\"x\")"));
+        assertEquals("'@sum", CsvWriter.escape("@sum"));
+        assertEquals("'-2+3", CsvWriter.escape("-2+3"));
+        assertEquals("'-cmd", CsvWriter.escape("-cmd"));
+    }
+
+    @Test
+    void writeRecord_negativeNumbers_shouldBeLeftAlone() {
+        assertEquals("-5", CsvWriter.escape("-5"));
+        assertEquals("-1250.50", CsvWriter.escape("-1250.50"));
+    }
+
+    @Test
+    void writtenRecords_shouldReadBackUnchanged() throws IOException {
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out);
+        writer.writeRecord("jobUrl", "notes");
+        writer.writeRecord("https://a.example/1", "line one\nline \"two\"");
+
+        CsvReader reader = new CsvReader(new StringReader(out.toString()));
+
+        assertEquals(Map.of("jobUrl", "https://a.example/1", "notes", "line one\nline \"two\""), reader.next());
+    }
+}
@@ -0,0 +1,28 @@
+package com.elzozcode.job_tracker.utils;
+
+import com.elzozcode.job_tracker.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorCodecTest {
+
+    @Test
+    void encodeDecode_shouldRoundTrip() {
+        String cursor = CursorCodec.encode("2026-01-15", 42L);
+
+        CursorCodec.Cursor decoded = CursorCodec.decode(cursor);
+
+        assertFalse(cursor.contains("|"));
+        assertEquals("2026-01-15", decoded.key());
+        assertEquals(42L, decoded.id());
+    }
+
+    @Test
+    void decode_malformedCursor_shouldThrowInvalidRequestException() {
+        assertThrows(InvalidRequestException.class, () -> CursorCodec.decode("not a cursor!"));
+        assertThrows(InvalidRequestException.class, () -> CursorCodec.decode(CursorCodec.encode("2026-01-15", 1L) + "x"));
+    }
+}
@@ -0,0 +1,20 @@
+package com.elzozcode.job_tracker.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ETagsTest {
+
+    @Test
+    void strong_shouldQuoteAndJoinParts() {
+        assertEquals("\"42-3-7\"", ETags.strong(42L, 3L, 7L));
+        assertEquals("\"jobs-0\"", ETags.strong("jobs", 0L));
+    }
+
+    @Test
+    void strong_differentVersions_shouldDiffer() {
+        assertNotEquals(ETags.strong(42L, 3L, 7L), ETags.strong(42L, 4L, 7L));
+    }
+}
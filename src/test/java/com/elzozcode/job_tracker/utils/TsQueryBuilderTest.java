@@ -0,0 +1,24 @@
+package com.elzozcode.job_tracker.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TsQueryBuilderTest {
+
+    @Test
+    void build_plainTerms_shouldBeAndedTogether() {
+        assertEquals("java & spring", TsQueryBuilder.build("Java  Spring"));
+    }
+
+    @Test
+    void build_quotedPhraseAndPrefix_shouldUsePhraseAndPrefixOperators() {
+        assertEquals("(senior <-> java) & kotl:*", TsQueryBuilder.build("\"senior java\" kotl*"));
+    }
+
+    @Test
+    void build_operatorCharacters_shouldBeStripped() {
+        assertEquals("java & spring", TsQueryBuilder.build("java & !spring"));
+        assertEquals("", TsQueryBuilder.build(" :* | & ! "));
+    }
+}